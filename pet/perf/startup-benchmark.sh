@@ -0,0 +1,101 @@
+#!/usr/bin/env bash
+# ** 기동 시간 벤치마크 - JVM 실행부터 첫 실제 요청(기본 GET / 200)까지 걸린 시간
+# health 체크는 컨트롤러/뷰/JPA 를 거치지 않아 지연 초기화되는 빈을 만들지 않으므로 사용하지 않는다.
+#
+# 준비물
+#   - JDK 13 이상 (CDS 동적 아카이브), 로컬 MySQL
+#   - 주의 : baseline 모드는 ddl-auto: create 로 스키마를 지우고 다시 만든다. 벤치마크 전용 DB 를 사용할 것
+#
+# 사용법
+#   ./gradlew bootJar cdsArchive
+#   perf/startup-benchmark.sh [반복 횟수=5]
+#
+# 첫 요청 (환경 변수)
+#   FIRST_REQUEST_PATH   : 요청 경로 (기본 / - 시큐리티 필터, MVC, Thymeleaf 렌더링)
+#   FIRST_REQUEST_ACCEPT : Accept 헤더 (기본 text/html)
+#   AUTH_TOKEN           : Authorization 헤더 값 (로그인 응답의 토큰, 인증이 필요한 경로용)
+#   예) DB 조회까지 포함 : FIRST_REQUEST_PATH=/petsitter FIRST_REQUEST_ACCEPT=application/json AUTH_TOKEN="Bearer ..."
+#
+# 모드
+#   baseline : 기본 프로필 fat jar (ddl-auto: create, 즉시 초기화)
+#   prod     : prod 프로필 fat jar (Flyway + validate, 지연 초기화)
+#   prod-cds : prod 프로필 + build/cds 의 CDS 아카이브
+# 모드별로 각 실행의 첫 요청까지 시간과 "Started PetApplication in ..." 값을 perf/results/startup.txt 에 남긴다.
+set -euo pipefail
+
+RUNS=${1:-5}
+PORT=${PORT:-8080}
+FIRST_REQUEST_URL="http://localhost:${PORT}${FIRST_REQUEST_PATH:-/}"
+FIRST_REQUEST_HEADERS=(-H "Accept: ${FIRST_REQUEST_ACCEPT:-text/html}")
+if [ -n "${AUTH_TOKEN:-}" ]; then
+    FIRST_REQUEST_HEADERS+=(-H "Authorization: ${AUTH_TOKEN}")
+fi
+
+cd "$(dirname "$0")/.."
+JAR=$(ls build/libs/*.jar | grep -v plain | head -n 1)
+CDS_DIR=build/cds
+RESULTS=perf/results
+REPORT="${RESULTS}/startup.txt"
+mkdir -p "$RESULTS"
+: > "$REPORT"
+echo "첫 요청 : GET ${FIRST_REQUEST_PATH:-/} (Accept: ${FIRST_REQUEST_ACCEPT:-text/html})" | tee -a "$REPORT"
+
+now_ms() {
+    date +%s%3N
+}
+
+# ** 첫 요청 성공까지 대기 후 경과 시간(ms) 출력
+wait_for_first_request() {
+    local start=$1
+    for _ in $(seq 1 1200); do
+        if curl -s -f -o /dev/null "${FIRST_REQUEST_HEADERS[@]}" "$FIRST_REQUEST_URL"; then
+            echo $(( $(now_ms) - start ))
+            return 0
+        fi
+        sleep 0.05
+    done
+    echo "서버가 기동되지 않았습니다" >&2
+    return 1
+}
+
+run() {
+    local mode=$1
+    shift
+    local log="${RESULTS}/startup-${mode}.log"
+    local times=()
+
+    for i in $(seq 1 "$RUNS"); do
+        local start
+        start=$(now_ms)
+        "$@" --server.port="$PORT" > "$log" 2>&1 &
+        local pid=$!
+        trap 'kill ${pid} 2>/dev/null || true' EXIT
+
+        local elapsed
+        elapsed=$(wait_for_first_request "$start")
+        local started
+        started=$(grep -o 'Started PetApplication in [0-9.]* seconds' "$log" | grep -o '[0-9.]*' | head -n 1 || true)
+        echo "${mode} #${i} : 첫 요청 ${elapsed} ms, Started ${started:-?} s" | tee -a "$REPORT"
+        times+=("$elapsed")
+
+        kill "$pid"
+        wait "$pid" 2>/dev/null || true
+        trap - EXIT
+    done
+
+    local median
+    median=$(printf '%s\n' "${times[@]}" | sort -n | awk '{a[NR]=$1} END {print a[int((NR + 1) / 2)]}')
+    echo "${mode} 중앙값 : ${median} ms" | tee -a "$REPORT"
+}
+
+run baseline java -jar "$JAR"
+run prod java -jar "$JAR" --spring.profiles.active=prod
+
+if [ -f "${CDS_DIR}/app.jsa" ]; then
+    # ** 학습 실행(cdsArchive)과 같은 작업 디렉터리/클래스패스여야 아카이브가 사용됨
+    run prod-cds sh -c "cd ${CDS_DIR} && exec java -XX:SharedArchiveFile=app.jsa -cp 'app.jar:lib/*' com.example.pet.PetApplication --spring.profiles.active=prod \"\$@\"" sh
+else
+    echo "CDS 아카이브가 없어 prod-cds 모드는 건너뜀 (./gradlew cdsArchive)" | tee -a "$REPORT"
+fi
+
+echo "결과 : ${REPORT}"
@@ -0,0 +1,78 @@
+#!/usr/bin/env bash
+# ** 플랫폼 스레드 vs 가상 스레드 부하 테스트
+#
+# 준비물
+#   - Java 21 이상 (가상 스레드 모드), 로컬 MySQL (application.yml 의 pet 스키마)
+#   - wrk (https://github.com/wg/wrk)
+#   - ulimit -n 이 동시 연결 수보다 충분히 커야 함
+#
+# 사용법
+#   ./gradlew bootJar
+#   perf/virtual-threads-loadtest.sh [동시 연결 수=1200] [측정 시간=60s]
+#
+# 같은 jar 를 spring.threads.virtual.enabled=false / true 로 각각 띄워
+# 인증된 GET /petsitter (JWT 검증 + MySQL 조회) 를 동일한 조건으로 호출하고 wrk 결과를 perf/results 에 남긴다.
+# 플랫폼 모드는 Tomcat 기본값(최대 200 스레드), 두 모드 모두 Hikari 기본 풀(10개)을 사용한다.
+set -euo pipefail
+
+CONNECTIONS=${1:-1200}
+DURATION=${2:-60s}
+THREADS=${WRK_THREADS:-8}
+PORT=${PORT:-8080}
+BASE_URL="http://localhost:${PORT}"
+
+cd "$(dirname "$0")/.."
+JAR=$(ls build/libs/*.jar | grep -v plain | head -n 1)
+RESULTS=perf/results
+mkdir -p "$RESULTS"
+
+EMAIL="loadtest@example.com"
+PASSWORD="loadtest1!"
+
+wait_for_server() {
+    for _ in $(seq 1 120); do
+        if curl -s -o /dev/null "${BASE_URL}/"; then
+            return 0
+        fi
+        sleep 1
+    done
+    echo "서버가 기동되지 않았습니다" >&2
+    return 1
+}
+
+login() {
+    curl -s -o /dev/null -H 'Content-Type: application/json' \
+        -d "{\"email\":\"${EMAIL}\",\"password\":\"${PASSWORD}\",\"username\":\"loadtest\"}" \
+        "${BASE_URL}/join" || true
+    curl -s -D - -o /dev/null -H 'Content-Type: application/json' \
+        -d "{\"email\":\"${EMAIL}\",\"password\":\"${PASSWORD}\"}" \
+        "${BASE_URL}/login" | awk -F': ' 'tolower($1)=="authorization" {print $2}' | tr -d '\r'
+}
+
+run() {
+    local mode=$1 virtual=$2
+    echo "=== ${mode} (spring.threads.virtual.enabled=${virtual}) ==="
+
+    java -jar "$JAR" --server.port="$PORT" --spring.threads.virtual.enabled="$virtual" \
+        > "${RESULTS}/${mode}-server.log" 2>&1 &
+    local pid=$!
+    trap 'kill ${pid} 2>/dev/null || true' EXIT
+
+    wait_for_server
+    local token
+    token=$(login)
+
+    # ** 워밍업 후 측정
+    wrk -t"$THREADS" -c"$CONNECTIONS" -d15s -H "Authorization: ${token}" "${BASE_URL}/petsitter?size=20" > /dev/null
+    wrk -t"$THREADS" -c"$CONNECTIONS" -d"$DURATION" --latency -H "Authorization: ${token}" \
+        "${BASE_URL}/petsitter?size=20" | tee "${RESULTS}/${mode}.txt"
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    trap - EXIT
+}
+
+run platform false
+run virtual true
+
+echo "결과 : ${RESULTS}/platform.txt, ${RESULTS}/virtual.txt"
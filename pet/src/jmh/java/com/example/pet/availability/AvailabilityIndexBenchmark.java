@@ -0,0 +1,63 @@
+package com.example.pet.availability;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+// ** 펫시터 10만 명 달력에서 "지역 X 에서 A ~ B 동안 가능" 조회 처리량
+// 목표는 조회 1회 수 ms 이내 (ops/ms 가 1 이상이면 1회 1ms 미만)
+@State(Scope.Benchmark)
+public class AvailabilityIndexBenchmark {
+    private static final String[] AREAS = {"서울", "부산", "대구", "인천", "광주", "대전", "울산", "세종", "경기", "제주"};
+
+    @Param({"100000"})
+    private int sitters;
+
+    private AvailabilityIndex index;
+    private LocalDate today;
+    private List<String> area;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        today = LocalDate.now();
+        List<Object[]> rows = new ArrayList<>(sitters);
+        for (int i = 0; i < sitters; i++) {
+            // ** 날짜마다 약 75% 예약 가능
+            long[] words = AvailabilityBits.empty();
+            for (int w = 0; w < words.length; w++) {
+                words[w] = random.nextLong() | random.nextLong();
+            }
+            rows.add(new Object[]{(long) i, AREAS[i % AREAS.length], today.toEpochDay(), AvailabilityBits.toBytes(words)});
+        }
+        index = new AvailabilityIndex(null);
+        index.load(rows);
+        area = Collections.singletonList("서울");
+    }
+
+    // ** 전체 지역, 하루 (word 1개)
+    @Benchmark
+    public AvailabilityIndex.Result allAreasOneDay() {
+        return index.search(null, today.plusDays(10), today.plusDays(10), 20);
+    }
+
+    // ** 한 지역, word 경계(63/64)에 걸친 1주일
+    @Benchmark
+    public AvailabilityIndex.Result oneAreaWeekAcrossWords() {
+        return index.search(area, today.plusDays(60), today.plusDays(66), 20);
+    }
+
+    // ** 전체 지역, 달력 전체 (word 6개, 대부분 첫 word 에서 탈락)
+    @Benchmark
+    public AvailabilityIndex.Result allAreasWholeWindow() {
+        return index.search(null, today, today.plusDays(AvailabilityBits.DAYS - 1), 20);
+    }
+}
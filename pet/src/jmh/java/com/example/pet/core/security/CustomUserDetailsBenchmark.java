@@ -0,0 +1,33 @@
+package com.example.pet.core.security;
+
+import com.example.pet.user.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+// ** 요청마다 호출되는 권한 목록 변환 비용 측정
+@State(Scope.Benchmark)
+public class CustomUserDetailsBenchmark {
+
+    private CustomUserDetails customUserDetails;
+
+    @Setup
+    public void setUp() {
+        User user = User.builder()
+                .id(1L)
+                .email("bench@example.com")
+                .roles(Arrays.asList("ROLE_USER", "ROLE_ADMIN"))
+                .build();
+        customUserDetails = new CustomUserDetails(user);
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return customUserDetails.getAuthorities();
+    }
+}
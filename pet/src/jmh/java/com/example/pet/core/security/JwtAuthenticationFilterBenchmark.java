@@ -0,0 +1,55 @@
+package com.example.pet.core.security;
+
+import com.example.pet.user.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import java.io.IOException;
+import java.util.Collections;
+
+// ** 인증 헤더가 있는 요청 하나가 JwtAuthenticationFilter 를 통과하는 전체 비용 측정
+@State(Scope.Thread)
+public class JwtAuthenticationFilterBenchmark {
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private FilterChain chain;
+    private Authentication authentication;
+
+    @Setup
+    public void setUp() {
+        User user = User.builder()
+                .id(1L)
+                .email("bench@example.com")
+                .username("bench")
+                .roles(Collections.singletonList("ROLE_USER"))
+                .build();
+
+        // ** username 클레임이 있는 토큰이므로 사용자 캐시는 사용되지 않음
+        // 폐기 목록은 메모리 확인만 하므로 저장소 없이 생성 (init/poll 을 호출하지 않음)
+        filter = new JwtAuthenticationFilter(auth -> auth, null, new TokenRevocationStore(null, 0));
+
+        request = new MockHttpServletRequest("GET", "/petsitter");
+        request.addHeader(JwtTokenProvider.HEADER, JwtTokenProvider.create(user));
+        response = new MockHttpServletResponse();
+
+        // ** 다음 필터 대신 인증 결과만 꺼내 둔다.
+        chain = (req, res) -> authentication = SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Benchmark
+    public Authentication doFilter() throws ServletException, IOException {
+        filter.doFilter(request, response, chain);
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.pet.core.security;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.example.pet.user.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Collections;
+
+// ** 토큰 발급/검증 비용 측정
+// verifyCached 는 같은 토큰을 반복하므로 검증 캐시 적중 비용, verifyUncached 는 매번 새 토큰이라 서명 검증 + 디코딩 비용
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private User user;
+    private String jwt;
+
+    @Setup
+    public void setUp() {
+        user = User.builder()
+                .id(1L)
+                .email("bench@example.com")
+                .username("bench")
+                .roles(Collections.singletonList("ROLE_USER"))
+                .build();
+        jwt = JwtTokenProvider.create(user).replace(JwtTokenProvider.TOKEN_PREFIX, "");
+    }
+
+    @Benchmark
+    public String create() {
+        return JwtTokenProvider.create(user);
+    }
+
+    @Benchmark
+    public DecodedJWT verifyCached() {
+        return JwtTokenProvider.verify(jwt);
+    }
+
+    @Benchmark
+    public DecodedJWT verifyUncached(FreshToken token) {
+        return JwtTokenProvider.verify(token.jwt);
+    }
+
+    // ** 호출마다 캐시에 없는 새 토큰 (jti 가 매번 달라 같은 토큰이 다시 나오지 않음)
+    // 토큰 발급은 Level.Invocation setup 에서 하므로 측정 시간에 포함되지 않음
+    @State(Scope.Thread)
+    public static class FreshToken {
+        private User user;
+        private String jwt;
+
+        @Setup(Level.Trial)
+        public void setUpUser() {
+            user = User.builder()
+                    .id(2L)
+                    .email("fresh@example.com")
+                    .username("fresh")
+                    .roles(Collections.singletonList("ROLE_USER"))
+                    .build();
+        }
+
+        @Setup(Level.Invocation)
+        public void next() {
+            jwt = JwtTokenProvider.create(user).replace(JwtTokenProvider.TOKEN_PREFIX, "");
+        }
+    }
+}
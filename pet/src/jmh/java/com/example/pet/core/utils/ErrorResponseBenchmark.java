@@ -0,0 +1,37 @@
+package com.example.pet.core.utils;
+
+import com.example.pet.core.error.exception.Exception401;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+
+// ** 거부된 요청 하나당 401 응답 작성 비용 측정 (-prof gc 의 gc.alloc.rate.norm 비교)
+// legacy: 요청마다 ObjectMapper 생성 + 문자열 직렬화 + Writer 출력 (기존 FilterResponseUtils)
+// prerendered: 미리 직렬화된 byte[] 를 OutputStream 에 바로 출력
+@State(Scope.Benchmark)
+public class ErrorResponseBenchmark {
+
+    @Benchmark
+    public MockHttpServletResponse legacy() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Exception401 e = new Exception401(ErrorResponseWriter.UNAUTHORIZED);
+
+        response.setStatus(e.status().value());
+        response.setContentType("application/json; charset=utf-8");
+        ObjectMapper objectMapper = new ObjectMapper();
+        String responseBody = objectMapper.writeValueAsString(e.body());
+        response.getWriter().println(responseBody);
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse prerendered() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterResponseUtils.unAuthorized(response);
+        return response;
+    }
+}
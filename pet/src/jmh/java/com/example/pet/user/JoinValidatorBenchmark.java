@@ -0,0 +1,97 @@
+package com.example.pet.user;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
+
+// ** /join, /check 요청 하나당 본문(JoinDTO) 검증 비용 측정 - 두 엔드포인트 모두 같은 검증을 수행
+// beanValidation: 기존 @NotEmpty / @Size / @Pattern (Hibernate Validator, 전방 탐색 정규식)
+// compiled: JoinValidator (필드당 한 번 훑기)
+// valid / invalid : 통과하는 요청 / 비밀번호에 특수문자가 없는 요청
+@State(Scope.Benchmark)
+public class JoinValidatorBenchmark {
+
+    @Param({"valid", "invalid"})
+    private String input;
+
+    private LocalValidatorFactoryBean beanValidator;
+    private JoinValidator joinValidator;
+    private AnnotatedJoinDTO annotated;
+    private UserRequest.JoinDTO join;
+
+    @Setup
+    public void setUp() {
+        beanValidator = new LocalValidatorFactoryBean();
+        beanValidator.afterPropertiesSet();
+        joinValidator = new JoinValidator();
+
+        String password = "valid".equals(input) ? "password1!" : "password12";
+        annotated = new AnnotatedJoinDTO("tester@example.com", password, "01012345678");
+        join = new UserRequest.JoinDTO();
+        join.setEmail("tester@example.com");
+        join.setPassword(password);
+        join.setPhoneNumber("01012345678");
+    }
+
+    @TearDown
+    public void tearDown() {
+        beanValidator.close();
+    }
+
+    @Benchmark
+    public Errors beanValidation() {
+        Errors errors = new BeanPropertyBindingResult(annotated, "joinDTO");
+        beanValidator.validate(annotated, errors);
+        return errors;
+    }
+
+    @Benchmark
+    public Errors compiled() {
+        Errors errors = new BeanPropertyBindingResult(join, "joinDTO");
+        joinValidator.validate(join, errors);
+        return errors;
+    }
+
+    // ** JoinValidator 도입 전 UserRequest.JoinDTO 의 검증 어노테이션
+    public static class AnnotatedJoinDTO {
+        @NotEmpty
+        @Pattern(regexp = "^[\\w._%+-]+@[\\w.-]+\\.[a-zA-Z]{2,6}$", message = "이메일 형식으로 작성해주세요")
+        private final String email;
+
+        @NotEmpty
+        @Size(min = 8, max = 20, message = "8자 이상 20자 이내로 작성 가능합니다.")
+        @Pattern(regexp = "^(?=.*[a-zA-Z])(?=.*\\d)(?=.*[@#$%^&+=!~`<>,./?;:'\"\\[\\]{}\\\\()|_-])\\S*$", message = "영문, 숫자, 특수문자가 포함되어야하고 공백이 포함될 수 없습니다.")
+        private final String password;
+
+        @Pattern(regexp = "^[0-9]{10,11}$", message = "휴대폰 번호는 숫자 10~11자리만 가능합니다.")
+        private final String phoneNumber;
+
+        public AnnotatedJoinDTO(String email, String password, String phoneNumber) {
+            this.email = email;
+            this.password = password;
+            this.phoneNumber = phoneNumber;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public String getPhoneNumber() {
+            return phoneNumber;
+        }
+    }
+}
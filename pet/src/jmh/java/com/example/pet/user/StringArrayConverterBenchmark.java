@@ -0,0 +1,35 @@
+package com.example.pet.user;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.List;
+
+// ** 권한 문자열 <-> 리스트 변환 비용 측정 (토큰 발급/검증 시마다 호출됨)
+@State(Scope.Benchmark)
+public class StringArrayConverterBenchmark {
+
+    private StringArrayConverter converter;
+    private List<String> roles;
+    private String dbData;
+
+    @Setup
+    public void setUp() {
+        converter = new StringArrayConverter();
+        roles = Arrays.asList("ROLE_USER", "ROLE_ADMIN");
+        dbData = converter.convertToDatabaseColumn(roles);
+    }
+
+    @Benchmark
+    public String convertToDatabaseColumn() {
+        return converter.convertToDatabaseColumn(roles);
+    }
+
+    @Benchmark
+    public List<String> convertToEntityAttribute() {
+        return converter.convertToEntityAttribute(dbData);
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.pet.availability;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * 펫시터 달력 비트셋 연산
+ * 기준일(base) 부터 DAYS 일을 long 6개(384비트)에 담는다. 비트 i = 기준일 + i 일, 1 = 예약 가능.
+ * 기간 조회는 걸친 word 마다 마스크를 만들어 (word & mask) == mask 로 비교한다.
+ */
+public final class AvailabilityBits {
+    public static final int WORDS = 6;
+    public static final int DAYS = WORDS * Long.SIZE;
+    public static final int BYTES = WORDS * Long.BYTES;
+
+    private AvailabilityBits() {
+    }
+
+    public static long[] empty() {
+        return new long[WORDS];
+    }
+
+    // ** 기준일을 days 만큼 옮긴 달력 (양수면 지난 날짜가 빠지고, 음수면 뒤쪽 날짜가 빠짐)
+    public static long[] shift(long[] words, long days) {
+        long[] result = new long[WORDS];
+        if (days >= DAYS || days <= -DAYS) {
+            return result;
+        }
+        if (days >= 0) {
+            int wordShift = (int) (days >>> 6);
+            int bitShift = (int) (days & 63);
+            for (int i = 0; i + wordShift < WORDS; i++) {
+                int src = i + wordShift;
+                long value = words[src] >>> bitShift;
+                if (bitShift != 0 && src + 1 < WORDS) {
+                    value |= words[src + 1] << (64 - bitShift);
+                }
+                result[i] = value;
+            }
+        } else {
+            long back = -days;
+            int wordShift = (int) (back >>> 6);
+            int bitShift = (int) (back & 63);
+            for (int i = WORDS - 1; i - wordShift >= 0; i--) {
+                int src = i - wordShift;
+                long value = words[src] << bitShift;
+                if (bitShift != 0 && src - 1 >= 0) {
+                    value |= words[src - 1] >>> (64 - bitShift);
+                }
+                result[i] = value;
+            }
+        }
+        return result;
+    }
+
+    // ** from ~ to (포함) 구간을 가능/불가로 설정
+    public static void set(long[] words, int from, int to, boolean available) {
+        for (int w = from >>> 6; w <= to >>> 6; w++) {
+            long mask = mask(w, from, to);
+            if (available) {
+                words[w] |= mask;
+            } else {
+                words[w] &= ~mask;
+            }
+        }
+    }
+
+    // ** from ~ to (포함) 이 모두 가능한지
+    public static boolean allSet(long[] words, int from, int to) {
+        for (int w = from >>> 6; w <= to >>> 6; w++) {
+            long mask = mask(w, from, to);
+            if ((words[w] & mask) != mask) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ** word 번째 long 에서 from ~ to 에 해당하는 비트
+    public static long mask(int word, int from, int to) {
+        int lo = word == from >>> 6 ? from & 63 : 0;
+        int hi = word == to >>> 6 ? to & 63 : 63;
+        return (-1L >>> (63 - hi)) & (-1L << lo);
+    }
+
+    public static int count(long[] words) {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    // ** DB 저장용 (little-endian 48바이트)
+    public static byte[] toBytes(long[] words) {
+        ByteBuffer buffer = ByteBuffer.allocate(BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (long word : words) {
+            buffer.putLong(word);
+        }
+        return buffer.array();
+    }
+
+    public static long[] fromBytes(byte[] bytes) {
+        long[] words = new long[WORDS];
+        if (bytes == null) {
+            return words;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < WORDS && buffer.remaining() >= Long.BYTES; i++) {
+            words[i] = buffer.getLong();
+        }
+        return words;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.pet.availability;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// ** 달력 변경 이벤트 - 커밋 후 AvailabilityIndex 가 반영
+@Getter
+@RequiredArgsConstructor
+public class AvailabilityChangedEvent {
+    private final Long petSitterId;
+
+    private final String area;
+
+    private final long baseEpochDay;
+
+    private final long[] words;
+}
@@ -0,0 +1,41 @@
+package com.example.pet.availability;
+
+import com.example.pet.core.utils.ApiUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.validation.Valid;
+import java.time.LocalDate;
+import java.util.List;
+
+@RequiredArgsConstructor
+@RestController
+public class AvailabilityController {
+    private final AvailabilityService availabilityService;
+
+    // ** 펫시터 달력 일괄 수정
+    @PutMapping("/petsitter/{id}/availability")
+    public ResponseEntity<?> update(@PathVariable Long id, @RequestBody @Valid AvailabilityRequest.UpdateDTO request) {
+        AvailabilityResponse.CalendarDTO calendar = availabilityService.update(id, request);
+        ApiUtils.ApiResult<?> apiResult = ApiUtils.success(calendar);
+        return ResponseEntity.ok(apiResult);
+    }
+
+    // ** 지역(여러 개 가능) + 기간으로 예약 가능한 펫시터 조회
+    @GetMapping("/petsitter/available")
+    public ResponseEntity<?> available(@RequestParam(required = false) List<String> area,
+                                       @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+                                       @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+                                       @RequestParam(defaultValue = "20") int limit) {
+        AvailabilityResponse.AvailableDTO result = availabilityService.findAvailable(area, startDate, endDate, limit);
+        ApiUtils.ApiResult<?> apiResult = ApiUtils.success(result);
+        return ResponseEntity.ok(apiResult);
+    }
+}
@@ -0,0 +1,331 @@
+package com.example.pet.availability;
+
+import com.example.pet.petsitter.PetSitter;
+import com.example.pet.petsitter.PetSitterBatchChangedEvent;
+import com.example.pet.petsitter.PetSitterChangedEvent;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PostConstruct;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 예약 가능 달력 메모리 인덱스
+ * - 모든 펫시터 달력을 같은 기준일로 맞춰 보관 (펫시터당 long 6개)
+ * - "지역 X 에서 A ~ B 동안 가능" 조회는 후보 행마다 걸친 word 만 마스크와 비교
+ * - 달력 수정은 해당 행의 배열만 교체하고, 펫시터 추가/지역 변경/기준일 이동은 새 스냅샷으로 교체
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class AvailabilityIndex {
+    private final SitterAvailabilityRepository availabilityRepository;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot = Snapshot.empty(today());
+
+    @PostConstruct
+    public void load() {
+        load(availabilityRepository.findAllRows());
+    }
+
+    // ** (펫시터 id, 지역, 저장 기준일, 달력 바이트) 행으로 전체 교체
+    void load(List<Object[]> rows) {
+        long base = today();
+        int n = rows.size();
+        long[] ids = new long[n];
+        int[] areas = new int[n];
+        AtomicReferenceArray<long[]> calendars = new AtomicReferenceArray<>(n);
+        Map<Long, Integer> positions = new HashMap<>(n * 2);
+        Map<String, Integer> areaIds = new HashMap<>();
+        List<String> areaNames = new ArrayList<>();
+
+        for (int i = 0; i < n; i++) {
+            Object[] row = rows.get(i);
+            ids[i] = (Long) row[0];
+            areas[i] = areaIds.computeIfAbsent(normalize((String) row[1]), name -> {
+                areaNames.add(name);
+                return areaNames.size() - 1;
+            });
+            long stored = (Long) row[2];
+            calendars.set(i, AvailabilityBits.shift(AvailabilityBits.fromBytes((byte[]) row[3]), base - stored));
+            positions.put(ids[i], i);
+        }
+
+        writeLock.lock();
+        try {
+            snapshot = new Snapshot(base, ids, areas, calendars, positions, areaNames.toArray(new String[0]), areaIds);
+        } finally {
+            writeLock.unlock();
+        }
+        log.info("예약 가능 달력 인덱스 로딩 완료 : {}건", n);
+    }
+
+    // ** 커밋된 달력 변경 반영
+    @TransactionalEventListener
+    public void onChanged(AvailabilityChangedEvent event) {
+        put(event.getPetSitterId(), event.getArea(), event.getBaseEpochDay(), event.getWords());
+    }
+
+    // ** 대량 등록 - 새 펫시터는 아직 달력이 없으므로 기존 행이 있는 건만 반영됨
+    @TransactionalEventListener
+    public void onPetSitterBatchChanged(PetSitterBatchChangedEvent event) {
+        for (PetSitterChangedEvent change : event.getChanges()) {
+            onPetSitterChanged(change);
+        }
+    }
+
+    // ** 펫시터 지역 변경/삭제 반영
+    @TransactionalEventListener
+    public void onPetSitterChanged(PetSitterChangedEvent event) {
+        PetSitter petSitter = event.getPetSitter();
+        writeLock.lock();
+        try {
+            Snapshot current = snapshot;
+            Integer row = current.positions.get(petSitter.getId());
+            if (row == null) {
+                return;
+            }
+            if (event.isDeleted()) {
+                snapshot = current.without(row);
+            } else {
+                snapshot = current.withArea(row, normalize(petSitter.getArea()));
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void put(Long petSitterId, String area, long baseEpochDay, long[] words) {
+        writeLock.lock();
+        try {
+            Snapshot current = snapshot;
+            long[] aligned = AvailabilityBits.shift(words, current.baseDay - baseEpochDay);
+            Integer row = current.positions.get(petSitterId);
+            if (row == null) {
+                snapshot = current.with(petSitterId, normalize(area), aligned);
+            } else {
+                // ** 기존 행은 배열만 교체 (스냅샷 복사 없음)
+                current.calendars.set(row, aligned);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // ** 자정마다 기준일을 오늘로 옮김
+    @Scheduled(cron = "0 0 0 * * *")
+    public void rebase() {
+        long base = today();
+        writeLock.lock();
+        try {
+            Snapshot current = snapshot;
+            if (current.baseDay < base) {
+                snapshot = current.rebased(base);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * areas (비어 있으면 전체) 중 startDate ~ endDate 가 모두 가능한 펫시터.
+     * 전체 건수와 앞에서부터 limit 개의 id 를 반환한다. 범위가 달력 밖이면 null.
+     * 시작일이 종료일보다 늦으면 가능한 날짜가 없으므로 빈 결과 (호출하는 쪽에서 먼저 검증).
+     */
+    public Result search(List<String> areas, LocalDate startDate, LocalDate endDate, int limit) {
+        Snapshot s = snapshot;
+        long from = startDate.toEpochDay() - s.baseDay;
+        long to = endDate.toEpochDay() - s.baseDay;
+        if (from > to) {
+            return new Result(0, Collections.emptyList());
+        }
+        if (from < 0 || to >= AvailabilityBits.DAYS) {
+            return null;
+        }
+
+        // ** 조회할 지역 id (없는 지역만 요청하면 결과 없음)
+        boolean allAreas = areas == null || areas.isEmpty();
+        boolean[] areaFilter = new boolean[s.areaNames.length];
+        if (!allAreas) {
+            for (String area : areas) {
+                Integer areaId = s.areaIds.get(normalize(area));
+                if (areaId != null) {
+                    areaFilter[areaId] = true;
+                }
+            }
+        }
+
+        // ** 걸친 word 와 마스크를 한 번만 계산
+        int firstWord = (int) (from >>> 6);
+        int lastWord = (int) (to >>> 6);
+        long[] masks = new long[lastWord - firstWord + 1];
+        for (int w = firstWord; w <= lastWord; w++) {
+            masks[w - firstWord] = AvailabilityBits.mask(w, (int) from, (int) to);
+        }
+
+        List<Long> ids = new ArrayList<>(Math.min(limit, 64));
+        int total = 0;
+        int n = s.ids.length;
+        for (int i = 0; i < n; i++) {
+            if (!allAreas && !areaFilter[s.areas[i]]) {
+                continue;
+            }
+            long[] words = s.calendars.get(i);
+            boolean available = true;
+            for (int m = 0; m < masks.length; m++) {
+                long mask = masks[m];
+                if ((words[firstWord + m] & mask) != mask) {
+                    available = false;
+                    break;
+                }
+            }
+            if (available) {
+                total++;
+                if (ids.size() < limit) {
+                    ids.add(s.ids[i]);
+                }
+            }
+        }
+        return new Result(total, ids);
+    }
+
+    public int size() {
+        return snapshot.ids.length;
+    }
+
+    private static long today() {
+        return LocalDate.now().toEpochDay();
+    }
+
+    private static String normalize(String area) {
+        return area == null ? "" : area.trim();
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Result {
+        private final int total;
+        private final List<Long> ids;
+    }
+
+    // ** 불변 구조 + 행별 달력 배열 (달력 배열 자체는 수정하지 않고 교체만 함)
+    private static final class Snapshot {
+        private final long baseDay;
+        private final long[] ids;
+        private final int[] areas;
+        private final AtomicReferenceArray<long[]> calendars;
+        private final Map<Long, Integer> positions;
+        private final String[] areaNames;
+        private final Map<String, Integer> areaIds;
+
+        private Snapshot(long baseDay, long[] ids, int[] areas, AtomicReferenceArray<long[]> calendars,
+                         Map<Long, Integer> positions, String[] areaNames, Map<String, Integer> areaIds) {
+            this.baseDay = baseDay;
+            this.ids = ids;
+            this.areas = areas;
+            this.calendars = calendars;
+            this.positions = positions;
+            this.areaNames = areaNames;
+            this.areaIds = areaIds;
+        }
+
+        private static Snapshot empty(long baseDay) {
+            return new Snapshot(baseDay, new long[0], new int[0], new AtomicReferenceArray<>(0),
+                    Collections.emptyMap(), new String[0], Collections.emptyMap());
+        }
+
+        private Snapshot with(Long id, String area, long[] words) {
+            int n = ids.length;
+            long[] newIds = Arrays.copyOf(ids, n + 1);
+            newIds[n] = id;
+
+            String[] newAreaNames = areaNames;
+            Map<String, Integer> newAreaIds = areaIds;
+            Integer areaId = areaIds.get(area);
+            if (areaId == null) {
+                areaId = areaNames.length;
+                newAreaNames = Arrays.copyOf(areaNames, areaNames.length + 1);
+                newAreaNames[areaId] = area;
+                newAreaIds = new HashMap<>(areaIds);
+                newAreaIds.put(area, areaId);
+            }
+            int[] newAreas = Arrays.copyOf(areas, n + 1);
+            newAreas[n] = areaId;
+
+            AtomicReferenceArray<long[]> newCalendars = copy(calendars, n + 1);
+            newCalendars.set(n, words);
+
+            Map<Long, Integer> newPositions = new HashMap<>(positions);
+            newPositions.put(id, n);
+            return new Snapshot(baseDay, newIds, newAreas, newCalendars, newPositions, newAreaNames, newAreaIds);
+        }
+
+        private Snapshot withArea(int row, String area) {
+            Integer areaId = areaIds.get(area);
+            if (areaId != null && areaId == areas[row]) {
+                return this;
+            }
+            String[] newAreaNames = areaNames;
+            Map<String, Integer> newAreaIds = areaIds;
+            if (areaId == null) {
+                areaId = areaNames.length;
+                newAreaNames = Arrays.copyOf(areaNames, areaNames.length + 1);
+                newAreaNames[areaId] = area;
+                newAreaIds = new HashMap<>(areaIds);
+                newAreaIds.put(area, areaId);
+            }
+            int[] newAreas = areas.clone();
+            newAreas[row] = areaId;
+            return new Snapshot(baseDay, ids, newAreas, calendars, positions, newAreaNames, newAreaIds);
+        }
+
+        // ** 마지막 행을 지운 자리로 옮김
+        private Snapshot without(int row) {
+            int last = ids.length - 1;
+            long[] newIds = Arrays.copyOf(ids, last);
+            int[] newAreas = Arrays.copyOf(areas, last);
+            AtomicReferenceArray<long[]> newCalendars = copy(calendars, last);
+            Map<Long, Integer> newPositions = new HashMap<>(positions);
+            newPositions.remove(ids[row]);
+            if (row != last) {
+                newIds[row] = ids[last];
+                newAreas[row] = areas[last];
+                newCalendars.set(row, calendars.get(last));
+                newPositions.put(ids[last], row);
+            }
+            return new Snapshot(baseDay, newIds, newAreas, newCalendars, newPositions, areaNames, areaIds);
+        }
+
+        private Snapshot rebased(long newBaseDay) {
+            int n = ids.length;
+            AtomicReferenceArray<long[]> shifted = new AtomicReferenceArray<>(n);
+            for (int i = 0; i < n; i++) {
+                shifted.set(i, AvailabilityBits.shift(calendars.get(i), newBaseDay - baseDay));
+            }
+            return new Snapshot(newBaseDay, ids, areas, shifted, positions, areaNames, areaIds);
+        }
+
+        private static AtomicReferenceArray<long[]> copy(AtomicReferenceArray<long[]> source, int length) {
+            AtomicReferenceArray<long[]> target = new AtomicReferenceArray<>(length);
+            int count = Math.min(length, source.length());
+            for (int i = 0; i < count; i++) {
+                target.set(i, source.get(i));
+            }
+            return target;
+        }
+    }
+}
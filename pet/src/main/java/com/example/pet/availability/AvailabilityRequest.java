@@ -0,0 +1,39 @@
+package com.example.pet.availability;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import java.time.LocalDate;
+import java.util.List;
+
+public class AvailabilityRequest {
+
+    // ** 달력 일괄 수정 - 구간 목록을 순서대로 적용
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class UpdateDTO {
+        @NotEmpty
+        @Valid
+        private List<RangeDTO> ranges;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class RangeDTO {
+        @NotNull
+        private LocalDate startDate;
+
+        // ** 마지막 날 (포함)
+        @NotNull
+        private LocalDate endDate;
+
+        // ** true = 예약 가능, false = 불가
+        private boolean available = true;
+    }
+}
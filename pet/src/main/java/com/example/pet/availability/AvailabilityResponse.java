@@ -0,0 +1,39 @@
+package com.example.pet.availability;
+
+import com.example.pet.petsitter.PetSitterResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class AvailabilityResponse {
+
+    // ** 수정된 달력 요약
+    @Getter
+    @AllArgsConstructor
+    public static class CalendarDTO {
+        private final Long petSitterId;
+
+        // ** 달력 시작일 (오늘)
+        private final LocalDate from;
+
+        // ** 달력 마지막 날
+        private final LocalDate to;
+
+        private final int availableDays;
+    }
+
+    // ** 기간 내 예약 가능한 펫시터
+    @Getter
+    @AllArgsConstructor
+    public static class AvailableDTO {
+        private final LocalDate startDate;
+
+        private final LocalDate endDate;
+
+        private final int total;
+
+        private final List<PetSitterResponse.SummaryDTO> content;
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.pet.availability;
+
+import com.example.pet.core.error.exception.Exception400;
+import com.example.pet.core.error.exception.Exception404;
+import com.example.pet.core.error.exception.Exception409;
+import com.example.pet.petsitter.PetSitter;
+import com.example.pet.petsitter.PetSitterRepository;
+import com.example.pet.petsitter.PetSitterResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Service
+public class AvailabilityService {
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final SitterAvailabilityRepository availabilityRepository;
+    private final PetSitterRepository petSitterRepository;
+    private final AvailabilityIndex availabilityIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 달력 일괄 수정 - 오늘 기준으로 옮긴 뒤 구간들을 순서대로 적용해 한 번에 저장
+    @Transactional
+    public AvailabilityResponse.CalendarDTO update(Long petSitterId, AvailabilityRequest.UpdateDTO request) {
+        PetSitter petSitter = petSitterRepository.findById(petSitterId).orElseThrow(
+                () -> new Exception404("해당 펫시터를 찾을 수 없습니다. : " + petSitterId)
+        );
+
+        long today = LocalDate.now().toEpochDay();
+        SitterAvailability availability = availabilityRepository.findById(petSitterId)
+                .orElseGet(() -> new SitterAvailability(petSitterId, today));
+
+        long[] words = availability.wordsFrom(today);
+        for (AvailabilityRequest.RangeDTO range : request.getRanges()) {
+            long from = range.getStartDate().toEpochDay() - today;
+            long to = range.getEndDate().toEpochDay() - today;
+            checkRange(from, to);
+            AvailabilityBits.set(words, (int) from, (int) to, range.isAvailable());
+        }
+
+        availability.change(today, words);
+        try {
+            // ** 바로 flush 해서 충돌을 여기서 확인 (커밋 시점에 나면 500 으로 응답됨)
+            availabilityRepository.saveAndFlush(availability);
+        } catch (DataIntegrityViolationException e) {
+            // ** 달력이 없던 펫시터의 첫 수정이 동시에 들어와 다른 요청이 먼저 행을 만든 경우 (기존 행 동시 수정은 낙관적 락 409)
+            throw new Exception409("다른 요청이 먼저 수정했습니다. 다시 시도해주세요.");
+        }
+        eventPublisher.publishEvent(new AvailabilityChangedEvent(petSitterId, petSitter.getArea(), today, words.clone()));
+
+        return new AvailabilityResponse.CalendarDTO(petSitterId, LocalDate.ofEpochDay(today),
+                LocalDate.ofEpochDay(today + AvailabilityBits.DAYS - 1), AvailabilityBits.count(words));
+    }
+
+    // 기간 내 예약 가능한 펫시터 - 메모리 인덱스에서 id 를 찾고, 그 id 들의 요약 정보만 DB 에서 조회
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public AvailabilityResponse.AvailableDTO findAvailable(List<String> areas, LocalDate startDate, LocalDate endDate, int limit) {
+        if (startDate == null || endDate == null) {
+            throw new Exception400("시작일과 종료일을 입력해주세요.");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new Exception400("시작일이 종료일보다 늦을 수 없습니다.");
+        }
+        AvailabilityIndex.Result result = availabilityIndex.search(
+                areas, startDate, endDate, Math.min(Math.max(limit, 1), MAX_PAGE_SIZE)
+        );
+        if (result == null) {
+            throw new Exception400("조회 기간은 오늘부터 " + AvailabilityBits.DAYS + "일 이내여야 합니다.");
+        }
+        if (result.getIds().isEmpty()) {
+            return new AvailabilityResponse.AvailableDTO(startDate, endDate, result.getTotal(), new ArrayList<>());
+        }
+
+        // DB 조회 결과를 인덱스 순서로 다시 정렬
+        Map<Long, PetSitterResponse.SummaryDTO> found = petSitterRepository.findSummariesByIdIn(result.getIds()).stream()
+                .collect(Collectors.toMap(PetSitterResponse.SummaryDTO::getId, Function.identity()));
+        List<PetSitterResponse.SummaryDTO> content = result.getIds().stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return new AvailabilityResponse.AvailableDTO(startDate, endDate, result.getTotal(), content);
+    }
+
+    private void checkRange(long from, long to) {
+        if (from > to) {
+            throw new Exception400("시작일이 종료일보다 늦을 수 없습니다.");
+        }
+        if (from < 0 || to >= AvailabilityBits.DAYS) {
+            throw new Exception400("달력은 오늘부터 " + AvailabilityBits.DAYS + "일까지만 수정할 수 있습니다.");
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.pet.availability;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Version;
+
+/**
+ * 펫시터 예약 가능 달력 - 펫시터당 한 행
+ * 하루 한 행 대신 기준일 + 384일 비트셋(48바이트)을 한 컬럼에 저장한다.
+ */
+@NoArgsConstructor
+@Getter
+@Entity
+public class SitterAvailability {
+    @Id
+    private Long petSitterId;
+
+    // ** bits 의 0번 비트에 해당하는 날 (epoch day)
+    @Column(nullable = false)
+    private long baseEpochDay;
+
+    @Column(nullable = false, length = AvailabilityBits.BYTES)
+    private byte[] bits;
+
+    // ** 같은 펫시터 달력을 동시에 수정하면 나중 커밋이 실패 (낙관적 락)
+    @Version
+    private Long version;
+
+    public SitterAvailability(Long petSitterId, long baseEpochDay) {
+        this.petSitterId = petSitterId;
+        this.baseEpochDay = baseEpochDay;
+        this.bits = AvailabilityBits.toBytes(AvailabilityBits.empty());
+    }
+
+    // ** today 기준으로 옮긴 달력
+    public long[] wordsFrom(long today) {
+        return AvailabilityBits.shift(AvailabilityBits.fromBytes(bits), today - baseEpochDay);
+    }
+
+    public void change(long baseEpochDay, long[] words) {
+        this.baseEpochDay = baseEpochDay;
+        this.bits = AvailabilityBits.toBytes(words);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.pet.availability;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface SitterAvailabilityRepository extends JpaRepository<SitterAvailability, Long> {
+
+    // ** 메모리 인덱스 로딩용 - (펫시터 id, 지역, 기준일, 비트셋)
+    @Query("select a.petSitterId, p.area, a.baseEpochDay, a.bits " +
+            "from SitterAvailability a, PetSitter p where p.id = a.petSitterId")
+    List<Object[]> findAllRows();
+}
@@ -0,0 +1,21 @@
+package com.example.pet.core.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 지표 설정
+ * - @Timed 가 붙은 서비스 메서드를 Timer 로 기록 (histogram = true 면 Prometheus 에서 p50/p99 계산 가능)
+ * - 직접 만든 캐시/풀/필터는 각 빈이 MeterBinder 로 자기 지표를 등록
+ * - HikariCP 풀 지표(hikaricp.connections.*)는 Spring Boot 가 자동 등록
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+}
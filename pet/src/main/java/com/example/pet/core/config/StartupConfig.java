@@ -0,0 +1,51 @@
+package com.example.pet.core.config;
+
+import com.example.pet.availability.AvailabilityIndex;
+import com.example.pet.core.security.TokenRevocationStore;
+import com.example.pet.petsitter.PetSitterAreaStats;
+import com.example.pet.petsitter.PetSitterFacetIndex;
+import com.example.pet.petsitter.PetSitterIngestQueue;
+import com.example.pet.petsitter.PetSitterSearchIndex;
+import com.example.pet.user.EmailBloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 빠른 기동 설정 (운영 프로필은 spring.main.lazy-initialization=true)
+ * - 지연 초기화에서도 기동 시 DB 에서 미리 채워야 하는 메모리 인덱스는 즉시 초기화
+ *   (첫 요청들이 인덱스 로딩을 기다리거나 동시에 로딩하지 않도록)
+ * - 지연 저장 대기열도 재시작 직후 남은 기록을 바로 저장하도록 즉시 초기화
+ * - startup.exit-after-ready=true 면 기동 완료 직후 종료 (CDS 아카이브 생성용 학습 실행, build.gradle cdsArchive)
+ */
+@Slf4j
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter warmIndexesLazyInitializationExcludeFilter() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                PetSitterFacetIndex.class,
+                PetSitterSearchIndex.class,
+                PetSitterAreaStats.class,
+                AvailabilityIndex.class,
+                EmailBloomFilter.class,
+                TokenRevocationStore.class,
+                PetSitterIngestQueue.class
+        );
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "startup.exit-after-ready", havingValue = "true")
+    public ApplicationListener<ApplicationReadyEvent> exitAfterReady() {
+        return event -> {
+            log.info("startup.exit-after-ready - 기동 완료 후 종료");
+            System.exit(SpringApplication.exit(event.getApplicationContext()));
+        };
+    }
+}
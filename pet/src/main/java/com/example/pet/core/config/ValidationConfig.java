@@ -0,0 +1,91 @@
+package com.example.pet.core.config;
+
+import com.example.pet.user.JoinValidator;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.MethodParameter;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import javax.validation.Valid;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @Valid 요청 본문 검증기 (MVC 전역)
+ * - 미리 만들어 둔 검증기(JoinValidator 등)가 있는 타입은 그 검증기로, 나머지는 Bean Validation 으로 검증
+ * - 기동 시 핸들러 메서드의 @Valid 파라미터 타입마다 검증기를 정해 두고, 요청마다 맵 조회 한 번으로 결정
+ * - 검증 실패는 MethodArgumentNotValidException 으로 GeneralExceptionHandler 에서 400 응답
+ */
+@Configuration
+public class ValidationConfig implements WebMvcConfigurer {
+    private final DispatchingValidator validator;
+
+    public ValidationConfig(JoinValidator joinValidator, javax.validation.Validator beanValidator) {
+        this.validator = new DispatchingValidator(List.of(joinValidator), new SpringValidatorAdapter(beanValidator));
+    }
+
+    @Override
+    public Validator getValidator() {
+        return validator;
+    }
+
+    // ** 핸들러 메서드 등록이 끝난 뒤 @Valid / @Validated 파라미터 타입별 검증기를 미리 결정
+    @EventListener(ContextRefreshedEvent.class)
+    public void prepare(ContextRefreshedEvent event) {
+        RequestMappingHandlerMapping mapping = event.getApplicationContext()
+                .getBean("requestMappingHandlerMapping", RequestMappingHandlerMapping.class);
+        for (HandlerMethod handlerMethod : mapping.getHandlerMethods().values()) {
+            for (MethodParameter parameter : handlerMethod.getMethodParameters()) {
+                if (parameter.hasParameterAnnotation(Valid.class) || parameter.hasParameterAnnotation(Validated.class)) {
+                    validator.prepare(parameter.getParameterType());
+                }
+            }
+        }
+    }
+
+    private static class DispatchingValidator implements Validator {
+        private final List<Validator> compiled;
+        private final Validator fallback;
+
+        // ** 요청 본문 타입 -> 검증기
+        private final Map<Class<?>, Validator> byType = new ConcurrentHashMap<>();
+
+        DispatchingValidator(List<Validator> compiled, Validator fallback) {
+            this.compiled = compiled;
+            this.fallback = fallback;
+        }
+
+        @Override
+        public boolean supports(Class<?> clazz) {
+            return true;
+        }
+
+        void prepare(Class<?> clazz) {
+            byType.computeIfAbsent(clazz, this::resolve);
+        }
+
+        // ** 미리 결정되지 않은 타입(하위 클래스 등)은 처음 한 번만 찾음
+        @Override
+        public void validate(Object target, Errors errors) {
+            byType.computeIfAbsent(target.getClass(), this::resolve).validate(target, errors);
+        }
+
+        private Validator resolve(Class<?> clazz) {
+            for (Validator candidate : compiled) {
+                if (candidate.supports(clazz)) {
+                    return candidate;
+                }
+            }
+            return fallback;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.pet.core.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 가상 스레드 실행 모드 (spring.threads.virtual.enabled=true, Java 21 이상)
+ * - Tomcat 요청 처리와 @Async / MVC 비동기 작업을 요청(작업)당 가상 스레드 하나로 실행
+ * - 프로젝트는 Java 11 로 컴파일하므로 Executors.newVirtualThreadPerTaskExecutor() 는 리플렉션으로 호출
+ * - bcrypt 해시, 썸네일 생성처럼 CPU 를 쓰는 작업은 기존처럼 크기가 정해진 플랫폼 스레드 풀에서 실행
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig implements DisposableBean {
+
+    // ** 작업마다 새 가상 스레드를 만드는 실행기 (풀링하지 않음)
+    private final ExecutorService executor = newVirtualThreadPerTaskExecutor();
+
+    // ** Tomcat 커넥터의 요청 처리 스레드를 가상 스레드로 교체
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(executor);
+    }
+
+    // ** 기본 applicationTaskExecutor 대체 (@Async, MVC Callable 등)
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(executor);
+    }
+
+    // ** Tomcat 은 외부에서 받은 실행기를 종료하지 않으므로 직접 종료 (웹 서버가 먼저 멈춘 뒤 호출됨)
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        Method factory;
+        try {
+            factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            // ** 잘못된 런타임이면 기동 단계에서 바로 실패
+            throw new IllegalStateException("spring.threads.virtual.enabled=true 는 Java 21 이상이 필요합니다. 현재 : "
+                    + System.getProperty("java.version"), e);
+        }
+        try {
+            ExecutorService executor = (ExecutorService) factory.invoke(null);
+            log.info("가상 스레드 실행 모드 사용 (Java {})", System.getProperty("java.version"));
+            return executor;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("가상 스레드 실행기를 만들 수 없습니다", e);
+        }
+    }
+}
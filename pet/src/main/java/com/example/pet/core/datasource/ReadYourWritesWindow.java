@@ -0,0 +1,51 @@
+package com.example.pet.core.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+
+/**
+ * read-your-writes 구간
+ * 사용자가 쓰기 트랜잭션을 실행하면 일정 시간 동안 그 사용자의 읽기도 primary 로 보낸다.
+ * (레플리카 복제 지연 동안 방금 쓴 데이터가 안 보이는 문제 방지, 인스턴스 단위로만 유지)
+ */
+public class ReadYourWritesWindow {
+    // ** 동시에 추적하는 사용자 수 상한
+    private static final long MAX_USERS = 100_000;
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesWindow(Duration window) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(MAX_USERS)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    // ** 현재 사용자의 쓰기 기록 (인증되지 않은 요청은 무시)
+    public void recordWrite() {
+        String user = currentUser();
+        if (user != null) {
+            recentWriters.put(user, Boolean.TRUE);
+        }
+    }
+
+    // ** 현재 사용자가 최근에 쓰기를 했는지
+    public boolean isActive() {
+        String user = currentUser();
+        return user != null && recentWriters.getIfPresent(user) != null;
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.pet.core.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 레플리카 설정 (datasource.replica.enabled=true)
+ * primary 는 spring.datasource.* 로, 레플리카는 datasource.replica.urls 로 각각 Hikari 풀을 만든다.
+ * 풀은 빈으로 등록하지 않고 이 설정이 직접 닫는다. (SQL 통계 프록시가 한 번만 감싸도록)
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig implements DisposableBean {
+    private final List<HikariDataSource> pools = new ArrayList<>();
+
+    @Primary
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties,
+                                 Environment environment,
+                                 ObjectProvider<MeterRegistry> meterRegistry,
+                                 @Value("${datasource.replica.urls}") String[] urls,
+                                 @Value("${datasource.replica.username:${spring.datasource.username}}") String username,
+                                 @Value("${datasource.replica.password:${spring.datasource.password}}") String password,
+                                 @Value("${datasource.replica.strategy:round-robin}") String strategy,
+                                 @Value("${datasource.replica.read-your-writes-ms:5000}") long readYourWritesMs,
+                                 @Value("${datasource.replica.down-cooldown-ms:5000}") long downCooldownMs,
+                                 @Value("${datasource.replica.connection-timeout-ms:1000}") long connectionTimeoutMs) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+        // ** 기본 DataSource 자동 설정과 같이 spring.datasource.hikari.* 적용
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        register(primary, registry);
+
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < urls.length; i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + (i + 1));
+            replica.setJdbcUrl(urls[i].trim());
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setReadOnly(true);
+            // ** 장애 레플리카에서 오래 기다리지 않고 바로 다음 후보로 넘어가도록
+            replica.setConnectionTimeout(connectionTimeoutMs);
+            register(replica, registry);
+            replicas.add(replica);
+        }
+
+        ReplicaRoutingDataSource router = new ReplicaRoutingDataSource(
+                primary, replicas, ReplicaRoutingDataSource.Strategy.from(strategy),
+                downCooldownMs, new ReadYourWritesWindow(Duration.ofMillis(readYourWritesMs))
+        );
+        log.info("읽기 레플리카 라우팅 사용 : 레플리카 {}개, 전략 {}", replicas.size(), strategy);
+        return new LazyConnectionDataSourceProxy(router);
+    }
+
+    // ** hikaricp.connections.*{pool=...} 지표는 풀마다 직접 연결
+    private void register(HikariDataSource pool, MeterRegistry registry) {
+        if (registry != null) {
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        }
+        pools.add(pool);
+    }
+
+    @Override
+    public void destroy() {
+        for (HikariDataSource pool : pools) {
+            pool.close();
+        }
+    }
+}
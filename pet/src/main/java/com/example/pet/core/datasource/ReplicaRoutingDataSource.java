@@ -0,0 +1,162 @@
+package com.example.pet.core.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션을 레플리카로 보내는 DataSource
+ * - readOnly 트랜잭션 : 레플리카 (round-robin 또는 least-connections)
+ * - 그 외(쓰기 트랜잭션, 트랜잭션 밖) : primary
+ * - 최근에 쓰기를 한 사용자의 읽기는 primary (ReadYourWritesWindow)
+ * - 연결에 실패한 레플리카는 cooldown 동안 제외하고, 모두 실패하면 primary 로 읽는다.
+ *
+ * 트랜잭션의 readOnly 여부는 트랜잭션 시작 후에 정해지므로 반드시 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    public enum Strategy {
+        ROUND_ROBIN, LEAST_CONNECTIONS;
+
+        // ** "round-robin", "least-connections" 형식의 설정값
+        public static Strategy from(String value) {
+            return valueOf(value.trim().toUpperCase().replace('-', '_'));
+        }
+    }
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final Strategy strategy;
+    private final long downCooldownNanos;
+    private final ReadYourWritesWindow readYourWrites;
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, Strategy strategy,
+                                    long downCooldownMillis, ReadYourWritesWindow readYourWrites) {
+        this.primary = primary;
+        this.replicas = new ArrayList<>();
+        for (int i = 0; i < replicas.size(); i++) {
+            this.replicas.add(new Replica("replica-" + (i + 1), replicas.get(i)));
+        }
+        this.strategy = strategy;
+        this.downCooldownNanos = TimeUnit.MILLISECONDS.toNanos(downCooldownMillis);
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connect(null, null);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connect(username, password);
+    }
+
+    private Connection connect(String username, String password) throws SQLException {
+        if (!routeToReplica()) {
+            return open(primary, username, password);
+        }
+
+        long now = System.nanoTime();
+        for (Replica replica : candidates()) {
+            if (!replica.isAvailable(now)) {
+                continue;
+            }
+            try {
+                Connection connection = open(replica.dataSource, username, password);
+                replica.markUp();
+                return connection;
+            } catch (SQLException | RuntimeException e) {
+                // ** Hikari 풀 초기화 실패는 PoolInitializationException(RuntimeException) 으로 온다.
+                replica.markDown(now + downCooldownNanos);
+                log.warn("레플리카 {} 연결 실패, {}ms 동안 제외 : {}",
+                        replica.name, TimeUnit.NANOSECONDS.toMillis(downCooldownNanos), e.getMessage());
+            }
+        }
+
+        // ** 사용 가능한 레플리카가 없으면 primary 에서 읽는다.
+        log.debug("사용 가능한 레플리카 없음 - primary 로 읽기");
+        return open(primary, username, password);
+    }
+
+    private boolean routeToReplica() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return false;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readYourWrites.recordWrite();
+            return false;
+        }
+        return !replicas.isEmpty() && !readYourWrites.isActive();
+    }
+
+    // ** 시도 순서대로 정렬된 레플리카
+    private List<Replica> candidates() {
+        int size = replicas.size();
+        List<Replica> ordered = new ArrayList<>(size);
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            ordered.add(replicas.get((start + i) % size));
+        }
+        if (strategy == Strategy.LEAST_CONNECTIONS) {
+            // ** 같은 연결 수면 round-robin 순서 유지 (안정 정렬)
+            ordered.sort(Comparator.comparingInt(Replica::activeConnections));
+        }
+        return ordered;
+    }
+
+    private static Connection open(DataSource dataSource, String username, String password) throws SQLException {
+        return username == null ? dataSource.getConnection() : dataSource.getConnection(username, password);
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile long downUntil;
+        private volatile boolean down;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        private boolean isAvailable(long now) {
+            return !down || now - downUntil >= 0;
+        }
+
+        private void markDown(long until) {
+            downUntil = until;
+            down = true;
+        }
+
+        private void markUp() {
+            if (down) {
+                down = false;
+                log.info("레플리카 {} 복구", name);
+            }
+        }
+
+        // ** Hikari 풀이면 사용 중인 연결 수, 아니면 0
+        private int activeConnections() {
+            if (dataSource instanceof HikariDataSource) {
+                HikariPoolMXBean pool = ((HikariDataSource) dataSource).getHikariPoolMXBean();
+                return pool == null ? 0 : pool.getActiveConnections();
+            }
+            return 0;
+        }
+    }
+}
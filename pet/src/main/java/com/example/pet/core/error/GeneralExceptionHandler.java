@@ -1,51 +1,100 @@
 package com.example.pet.core.error;
 
 import com.example.pet.core.error.exception.*;
-import com.example.pet.core.utils.ApiUtils;
+import com.example.pet.core.utils.ErrorResponseWriter;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindException;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.servlet.NoHandlerFoundException;
 
 
+// ** 에러 본문은 ErrorResponseWriter 가 만든 byte[] 를 그대로 응답 (Jackson 변환 생략)
 @ControllerAdvice
 public class GeneralExceptionHandler {
 
     // ** 데이터 유효성 검사 실패
     @ExceptionHandler(Exception400.class)
-    public ResponseEntity<?> badRequest(Exception400 e) {
-        return new ResponseEntity<>(e.body(), e.status());
+    public ResponseEntity<byte[]> badRequest(Exception400 e) {
+        return error(e.getMessage(), e.status());
+    }
+
+    // ** @Valid 검증 실패 (MethodArgumentNotValidException 포함) - 첫 번째 오류를 "메시지:필드" 로 응답
+    @ExceptionHandler(BindException.class)
+    public ResponseEntity<byte[]> invalid(BindException e) {
+        ObjectError first = e.getAllErrors().get(0);
+        String message = first instanceof FieldError
+                ? first.getDefaultMessage() + ":" + ((FieldError) first).getField()
+                : first.getDefaultMessage();
+        return error(message, HttpStatus.BAD_REQUEST);
     }
 
     // ** 인증 되지 않음.
     @ExceptionHandler(Exception401.class)
-    public ResponseEntity<?> unAuthorized(Exception401 e) {
-        return new ResponseEntity<>(e.body(), e.status());
+    public ResponseEntity<byte[]> unAuthorized(Exception401 e) {
+        return error(e.getMessage(), e.status());
     }
 
     // ** 권한 없음. (인증)
     @ExceptionHandler(Exception403.class)
-    public ResponseEntity<?> forbidden(Exception403 e) {
-        return new ResponseEntity<>(e.body(), e.status());
+    public ResponseEntity<byte[]> forbidden(Exception403 e) {
+        return error(e.getMessage(), e.status());
     }
 
     // ** 권한 없음. (삭제된 게시물에 대한 접근, 로그인되지 읺은 상태에서의 접근 등등...)
     @ExceptionHandler(Exception404.class)
-    public ResponseEntity<?> notFound(Exception404 e) {
-        return new ResponseEntity<>(e.body(), e.status());
+    public ResponseEntity<byte[]> notFound(Exception404 e) {
+        return error(e.getMessage(), e.status());
+    }
+
+    // ** 충돌 (이미 예약된 날짜 등)
+    @ExceptionHandler(Exception409.class)
+    public ResponseEntity<byte[]> conflict(Exception409 e) {
+        return error(e.getMessage(), e.status());
+    }
+
+    // ** 낙관적 락 충돌 (같은 데이터를 동시에 수정)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<byte[]> optimisticLock(OptimisticLockingFailureException e) {
+        return error("다른 요청이 먼저 수정했습니다. 다시 시도해주세요.", HttpStatus.CONFLICT);
+    }
+
+    // ** 존재하지 않는 경로 - 미리 직렬화된 본문
+    @ExceptionHandler(NoHandlerFoundException.class)
+    public ResponseEntity<byte[]> noHandler(NoHandlerFoundException e) {
+        return error(ErrorResponseWriter.NOT_FOUND, HttpStatus.NOT_FOUND);
     }
 
     // ** 서버 문제
     @ExceptionHandler(Exception500.class)
-    public ResponseEntity<?> serverError(Exception500 e) {
-        return new ResponseEntity<>(e.body(), e.status());
+    public ResponseEntity<byte[]> serverError(Exception500 e) {
+        return error(e.getMessage(), e.status());
+    }
+
+    // ** 서버 과부하 (Retry-After 이후 재시도)
+    @ExceptionHandler(Exception503.class)
+    public ResponseEntity<byte[]> serviceUnavailable(Exception503 e) {
+        return ResponseEntity.status(e.status())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.retryAfter()))
+                .contentType(ErrorResponseWriter.CONTENT_TYPE)
+                .body(ErrorResponseWriter.body(e.getMessage(), e.status()));
     }
 
     // ** 위 예외를 제외한 모든 예외처리
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<?> unknownServerError(Exception e) {
-        ApiUtils.ApiResult<?> apiResult = ApiUtils.error(e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
-        return new ResponseEntity<>(apiResult, HttpStatus.INTERNAL_SERVER_ERROR);
+    public ResponseEntity<byte[]> unknownServerError(Exception e) {
+        return error(e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    private ResponseEntity<byte[]> error(String message, HttpStatus status) {
+        return ResponseEntity.status(status)
+                .contentType(ErrorResponseWriter.CONTENT_TYPE)
+                .body(ErrorResponseWriter.body(message, status));
     }
 }
 
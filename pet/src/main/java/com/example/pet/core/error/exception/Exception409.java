@@ -0,0 +1,19 @@
+package com.example.pet.core.error.exception;
+
+import com.example.pet.core.utils.ApiUtils;
+import org.springframework.http.HttpStatus;
+
+// ** 요청이 현재 상태와 충돌 (이미 예약된 날짜 등)
+public class Exception409 extends RuntimeException {
+    public Exception409(String message) {
+        super(message);
+    }
+
+    public ApiUtils.ApiResult<?> body(){
+        return ApiUtils.error(getMessage(), HttpStatus.CONFLICT);
+    }
+
+    public HttpStatus status(){
+        return HttpStatus.CONFLICT;
+    }
+}
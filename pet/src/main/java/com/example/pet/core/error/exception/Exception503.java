@@ -0,0 +1,26 @@
+package com.example.pet.core.error.exception;
+
+import com.example.pet.core.utils.ApiUtils;
+import org.springframework.http.HttpStatus;
+
+// ** 서버 과부하 - retryAfter 초 후 재시도 요청
+public class Exception503 extends RuntimeException {
+    private final long retryAfter;
+
+    public Exception503(String message, long retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public ApiUtils.ApiResult<?> body(){
+        return ApiUtils.error(getMessage(), HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    public HttpStatus status(){
+        return HttpStatus.SERVICE_UNAVAILABLE;
+    }
+
+    public long retryAfter(){
+        return retryAfter;
+    }
+}
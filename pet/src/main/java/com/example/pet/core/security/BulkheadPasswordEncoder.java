@@ -0,0 +1,160 @@
+package com.example.pet.core.security;
+
+import com.example.pet.core.error.exception.Exception503;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 비밀번호 해시(bcrypt) 전용 격벽(bulkhead)
+ * 해시 계산/검증을 요청 스레드가 아닌 크기가 고정된 전용 풀에서 실행한다.
+ * 대기열이 가득 차면 기다리지 않고 바로 Exception503(Retry-After) 을 던져
+ * 로그인 폭주가 다른 API 의 스레드와 CPU 를 잡아먹지 않게 한다.
+ */
+@Slf4j
+public class BulkheadPasswordEncoder implements PasswordEncoder, DisposableBean, MeterBinder {
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long retryAfter;
+
+    // ** 지표 : 대기 시간, 해시 시간, 거절 횟수
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder queueTimeNanos = new LongAdder();
+    private final LongAdder hashTimeNanos = new LongAdder();
+
+    public BulkheadPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, long retryAfter) {
+        this.delegate = delegate;
+        this.retryAfter = retryAfter;
+
+        AtomicInteger count = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        log.info("비밀번호 해시 전용 풀 : 스레드 {}개, 대기열 {}", threads, queueCapacity);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // 해시 계산이 없는 단순 비교이므로 호출 스레드에서 처리
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T execute(Callable<T> task) {
+        long enqueuedAt = System.nanoTime();
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                queueTimeNanos.add(startedAt - enqueuedAt);
+                try {
+                    return task.call();
+                } finally {
+                    hashTimeNanos.add(System.nanoTime() - startedAt);
+                    completed.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new Exception503("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", retryAfter);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new Exception503("요청 처리가 중단되었습니다.", retryAfter);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    public long getCompletedCount() {
+        return completed.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public long getQueueTimeNanos() {
+        return queueTimeNanos.sum();
+    }
+
+    public long getHashTimeNanos() {
+        return hashTimeNanos.sum();
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    // ** 대기/해시 시간, 거절 횟수, 대기열 길이를 password.hash.* 지표로 노출
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionTimer.builder("password.hash.queue", this,
+                        BulkheadPasswordEncoder::getCompletedCount, BulkheadPasswordEncoder::getQueueTimeNanos,
+                        TimeUnit.NANOSECONDS)
+                .description("해시 풀 대기 시간")
+                .register(registry);
+        FunctionTimer.builder("password.hash.execution", this,
+                        BulkheadPasswordEncoder::getCompletedCount, BulkheadPasswordEncoder::getHashTimeNanos,
+                        TimeUnit.NANOSECONDS)
+                .description("해시 계산 시간")
+                .register(registry);
+        FunctionCounter.builder("password.hash.rejected", this, BulkheadPasswordEncoder::getRejectedCount)
+                .description("대기열이 가득 차 503 으로 거절된 횟수")
+                .register(registry);
+        Gauge.builder("password.hash.queue.size", this, BulkheadPasswordEncoder::getQueueSize)
+                .register(registry);
+        Gauge.builder("password.hash.active", this, BulkheadPasswordEncoder::getActiveCount)
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
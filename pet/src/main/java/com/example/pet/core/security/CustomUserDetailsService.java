@@ -1,7 +1,7 @@
 package com.example.pet.core.security;
 
 import com.example.pet.user.User;
-import com.example.pet.user.UserRepository;
+import com.example.pet.user.UserCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -12,12 +12,12 @@ import org.springframework.stereotype.Service;
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
 
-    private final UserRepository userRepository;
+    private final UserCache userCache;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
 
-        User user = userRepository.findByEmail(username).orElseThrow(
+        User user = userCache.findByEmail(username).orElseThrow(
                 () -> new UsernameNotFoundException("Invalid authentication!")
         );
 
@@ -1,19 +1,21 @@
 package com.example.pet.core.security;
 
+import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.exceptions.SignatureVerificationException;
 import com.auth0.jwt.exceptions.TokenExpiredException;
 import com.auth0.jwt.interfaces.DecodedJWT;
-import com.example.pet.core.security.JwtTokenProvider;
 import com.example.pet.user.StringArrayConverter;
 import com.example.pet.user.User;
+import com.example.pet.user.UserCache;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.annotation.Bean;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
-import org.springframework.web.filter.OncePerRequestFilter;
 
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
@@ -21,9 +23,12 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
 * Jwt가 유효성을 검증하는 Filter
+* 요청당 한 번만 토큰(헤더 또는 쿠키)을 검증하고, 화면 표시에 필요한 정보까지 담은
+* 인증 객체를 SecurityContext 에 저장한다. 컨트롤러/뷰는 이 인증 객체만 사용한다.
 */
 
 /*
@@ -33,8 +38,21 @@ import java.util.List;
 
 @Slf4j
 public class JwtAuthenticationFilter extends BasicAuthenticationFilter {
-    public JwtAuthenticationFilter(AuthenticationManager authenticationManager) {
+    // ** 토큰 인증 결과별 처리 시간 (jwt.authentication{outcome=...})
+    private static final Timer VALID = outcomeTimer("valid");
+    private static final Timer EXPIRED = outcomeTimer("expired");
+    private static final Timer BAD_SIGNATURE = outcomeTimer("bad_signature");
+    private static final Timer INVALID = outcomeTimer("invalid");
+    private static final Timer REVOKED = outcomeTimer("revoked");
+
+    private final UserCache userCache;
+    private final TokenRevocationStore revocationStore;
+
+    public JwtAuthenticationFilter(AuthenticationManager authenticationManager, UserCache userCache,
+                                   TokenRevocationStore revocationStore) {
         super(authenticationManager);
+        this.userCache = userCache;
+        this.revocationStore = revocationStore;
     }
 
     // ** Http 요청이 발생할 때마다 호출되는 메서드.
@@ -43,19 +61,18 @@ public class JwtAuthenticationFilter extends BasicAuthenticationFilter {
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
             throws IOException, ServletException {
 
-        String prefixJwt = request.getHeader(JwtTokenProvider.HEADER);
+        // ** Authorization 헤더, 없으면 jwtToken 쿠키 (Bearer 제거된 값)
+        String jwt = JwtTokenProvider.resolveToken(request);
 
 
-        // ** 헤더가 없다면 더이상 이 메서드에서 할 일은 없음. 다음으로 넘김.
-        if(prefixJwt == null) {
+        // ** 토큰이 없다면 더이상 이 메서드에서 할 일은 없음. 다음으로 넘김.
+        if(jwt == null) {
             chain.doFilter(request, response);
             return;
         }
 
         //검증을 해서 정상적인 사용자 인지 확인
-
-        // ** Bearer 제거.
-        String jwt = prefixJwt.replace(JwtTokenProvider.TOKEN_PREFIX, "");
+        long start = System.nanoTime();
 
         try {
             log.debug("토근 있음.");
@@ -63,16 +80,30 @@ public class JwtAuthenticationFilter extends BasicAuthenticationFilter {
             // ** 토큰 검증
             DecodedJWT decodedJWT = JwtTokenProvider.verify(jwt);
 
+            // ** 로그아웃으로 폐기된 토큰이면 인증하지 않음 (메모리 집합 확인, DB 조회 없음)
+            if (revocationStore.isRevoked(decodedJWT)) {
+                log.debug("폐기된 토큰");
+                record(REVOKED, start);
+                return;
+            }
+
             // ** 사용자 정보 추출.
             Long id = decodedJWT.getClaim("id").asLong();
+            String email = decodedJWT.getSubject();
             String roles = decodedJWT.getClaim("roles").asString();
+            String username = decodedJWT.getClaim("username").asString();
+
+            // ** username 클레임이 없는 이전 토큰은 캐시(없으면 DB)에서 보완
+            if (username == null && email != null) {
+                username = userCache.findByEmail(email).map(User::getUsername).orElse(null);
+            }
 
             // ** 권한 정보를 문자열 리스트로 변환.
             StringArrayConverter stringArrayConverter = new StringArrayConverter();
             List<String> rolesList = stringArrayConverter.convertToEntityAttribute(roles);
 
             // ** 추출한 정보로 유저를 생성.
-            User user = User.builder().id(id).roles(rolesList).build();
+            User user = User.builder().id(id).email(email).username(username).roles(rolesList).build();
             CustomUserDetails customUserDetails = new CustomUserDetails(user);
 
             // ** Spring Security 가 인증 정보를 관리하는데 사용.
@@ -82,18 +113,38 @@ public class JwtAuthenticationFilter extends BasicAuthenticationFilter {
                     customUserDetails.getAuthorities()
             );
 
-            // ** SecurityContext에 저장.
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+            // ** 새 SecurityContext 에 담아 저장. (공유된 context 객체를 변경하지 않음)
+            SecurityContext context = SecurityContextHolder.createEmptyContext();
+            context.setAuthentication(authentication);
+            SecurityContextHolder.setContext(context);
             log.debug("인증 객체 생성");
+            record(VALID, start);
         }
         catch (SignatureVerificationException sve) {
             log.debug("토큰 검증 실패");
+            record(BAD_SIGNATURE, start);
         }
         catch (TokenExpiredException tee) {
             log.debug("토큰 사용 만료");
+            record(EXPIRED, start);
+        }
+        catch (JWTVerificationException jve) {
+            log.debug("잘못된 토큰");
+            record(INVALID, start);
         } finally {
             // ** 필터로 응답을 넘긴다.
             chain.doFilter(request, response);
         }
     }
+
+    private static void record(Timer timer, long start) {
+        timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private static Timer outcomeTimer(String outcome) {
+        return Timer.builder("jwt.authentication")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(Metrics.globalRegistry);
+    }
 }
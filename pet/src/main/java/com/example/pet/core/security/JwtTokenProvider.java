@@ -2,15 +2,36 @@ package com.example.pet.core.security;
 
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.SignatureVerificationException;
 import com.auth0.jwt.exceptions.TokenExpiredException;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.example.pet.user.StringArrayConverter;
 import com.example.pet.user.User;
-
-import java.security.SignatureException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.http.MediaType;
+import org.springframework.web.util.WebUtils;
+
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 public class JwtTokenProvider {
 
@@ -23,11 +44,78 @@ public class JwtTokenProvider {
     // ** 인증 헤더의 이름을 "Authorization"으로 설정.
     public static final String HEADER = "Authorization";
 
+    // ** 브라우저 로그인 시 토큰을 담는 쿠키 이름
+    public static final String COOKIE = "jwtToken";
+
+    // ** 쿠키 인증을 허용하는 화면 주소 (HomeController)
+    private static final Set<String> PAGE_PATHS = Collections.unmodifiableSet(new HashSet<>(
+            Arrays.asList("/", "/petsitter", "/join", "/login", "/carts")
+    ));
+
     // ** 토큰의 서명을 생성하고 검증할 때 사용하는 비밀 키
     private static final String SECRET = "SECRET_KEY";
 
+    // ** 서명 알고리즘과 검증기는 불변(thread-safe) 객체이므로 한 번만 만들어 재사용.
+    private static final Algorithm ALGORITHM = Algorithm.HMAC512(SECRET);
+    private static final JWTVerifier VERIFIER = JWT.require(ALGORITHM).build();
+
+    // ** 검증 완료 토큰 캐시의 최대 크기
+    private static final long VERIFIED_CACHE_SIZE = 10_000;
+
+    // ** 이미 검증이 끝난 토큰 캐시.
+    // 키는 토큰 문자열의 SHA-256 다이제스트, 항목은 토큰의 exp 시점에 만료된다.
+    private static final Cache<String, DecodedJWT> VERIFIED = Caffeine.newBuilder()
+            .maximumSize(VERIFIED_CACHE_SIZE)
+            .expireAfter(new Expiry<String, DecodedJWT>() {
+                @Override
+                public long expireAfterCreate(String key, DecodedJWT decodedJWT, long currentTime) {
+                    Date expiresAt = decodedJWT.getExpiresAt();
+                    if (expiresAt == null) {
+                        return TimeUnit.MILLISECONDS.toNanos(EXP);
+                    }
+                    long remaining = expiresAt.getTime() - System.currentTimeMillis();
+                    return TimeUnit.MILLISECONDS.toNanos(Math.max(remaining, 0));
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, DecodedJWT decodedJWT, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+
+                @Override
+                public long expireAfterRead(String key, DecodedJWT decodedJWT, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .recordStats()
+            .build();
+
+    // ** 정적 유틸리티라 전역 레지스트리에 등록 (Spring Boot 가 만든 레지스트리가 전역 레지스트리에 추가됨)
+    private static final Timer CREATE_TIMER = Timer.builder("jwt.create")
+            .publishPercentileHistogram()
+            .register(Metrics.globalRegistry);
+    private static final Timer VERIFY_HIT_TIMER = verifyTimer("hit");
+    private static final Timer VERIFY_MISS_TIMER = verifyTimer("miss");
+
+    static {
+        CaffeineCacheMetrics.monitor(Metrics.globalRegistry, VERIFIED, "jwt.verified");
+    }
+
+    // ** MessageDigest 는 thread-safe 하지 않으므로 원본을 복제해서 사용.
+    // (ThreadLocal 은 요청마다 새로 만들어지는 가상 스레드에서는 재사용되지 않음)
+    private static final MessageDigest SHA256 = sha256();
+
     // ** User 객체의 정보를 사용해 JWT 토큰을 생성하고 반환.
     public static String create(User user) {
+        long start = System.nanoTime();
+        try {
+            return sign(user);
+        } finally {
+            CREATE_TIMER.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static String sign(User user) {
 
         // ** StringArrayConverter 객체 생성
         StringArrayConverter stringArrayConverter = new StringArrayConverter();
@@ -39,23 +127,110 @@ public class JwtTokenProvider {
 
         String jwt = JWT.create()
                 .withSubject(user.getEmail()) // ** 토큰의 대상정보 셋팅
+                .withJWTId(UUID.randomUUID().toString()) // ** 토큰 식별자 (로그아웃 시 폐기 목록에 등록)
                 .withExpiresAt(new Date(System.currentTimeMillis() + EXP)) // ** 시간 설정
                 .withClaim("id", user.getId()) // ** id설정
                 .withClaim("roles", roles) // ** 권한정보 설정
-                .sign(Algorithm.HMAC512(SECRET)); // ** jwt 생성 알고리즘 설정
+                .withClaim("username", user.getUsername()) // ** 화면 표시용 이름 (요청마다 DB 조회하지 않도록)
+                .sign(ALGORITHM); // ** jwt 생성 알고리즘 설정
 
         return TOKEN_PREFIX + jwt;
     }
 
 
     // **  JWT 토큰 문자열을 검증하고, 유효하다면 디코딩된 DecodedJWT 객체를 반환.
+    // 이미 검증된 토큰이면 서명 계산 없이 캐시에서 바로 반환한다.
     public static DecodedJWT verify(String jwt) throws SignatureVerificationException, TokenExpiredException {
+        long start = System.nanoTime();
+
+        String key = digest(jwt);
+
+        // ** 캐시 확인. (만료된 항목은 캐시가 돌려주지 않음)
+        DecodedJWT cached = VERIFIED.getIfPresent(key);
+        if (cached != null) {
+            VERIFY_HIT_TIMER.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return cached;
+        }
+
+        try {
+            // ** 토큰 검증을 시작.
+            DecodedJWT decodedJWT = VERIFIER.verify(jwt);
+
+            // ** 검증에 성공한 토큰만 캐시에 저장.
+            VERIFIED.put(key, decodedJWT);
+            return decodedJWT;
+        } finally {
+            VERIFY_MISS_TIMER.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // ** 요청에서 토큰 문자열을 꺼냄. (Authorization 헤더 우선, 없으면 쿠키) 없으면 null
+    // 쿠키는 다른 사이트에서 보낸 요청에도 자동으로 붙으므로 화면 조회(GET/HEAD 페이지 요청)에서만 사용.
+    // API 쓰기/조회는 반드시 Authorization 헤더로 인증해야 함.
+    public static String resolveToken(HttpServletRequest request) {
+        String header = request.getHeader(HEADER);
+        if (header != null) {
+            return header.replace(TOKEN_PREFIX, "");
+        }
+        if (!isPageRequest(request)) {
+            return null;
+        }
+        return resolveCookie(request);
+    }
 
-        // ** 토큰 검증을 시작.
-        DecodedJWT decodedJWT = JWT.require(Algorithm.HMAC512(SECRET))
-                .build()
-                .verify(jwt);
+    // ** 로그인 쿠키의 토큰 (없으면 null) - 로그아웃 시 폐기 대상 확인용
+    public static String resolveCookie(HttpServletRequest request) {
+        Cookie cookie = WebUtils.getCookie(request, COOKIE);
+        if (cookie != null && !cookie.getValue().isEmpty()) {
+            return cookie.getValue().replace(TOKEN_PREFIX, "");
+        }
+        return null;
+    }
+
+    // ** 쿠키 인증을 허용하는 화면 요청 - GET/HEAD 이고, 페이지 주소이며 HTML 을 받는 요청
+    // (/petsitter 는 JSON 목록 API 와 주소가 같으므로 Accept 로 구분)
+    static boolean isPageRequest(HttpServletRequest request) {
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            return false;
+        }
+        if (!PAGE_PATHS.contains(request.getServletPath())) {
+            return false;
+        }
+        String accept = request.getHeader("Accept");
+        return accept != null && accept.contains(MediaType.TEXT_HTML_VALUE);
+    }
+
+    // ** 검증 캐시의 hit/miss 통계
+    public static CacheStats verifiedCacheStats() {
+        return VERIFIED.stats();
+    }
+
+    private static Timer verifyTimer(String cache) {
+        return Timer.builder("jwt.verify")
+                .tag("cache", cache)
+                .publishPercentileHistogram()
+                .register(Metrics.globalRegistry);
+    }
+
+    private static String digest(String jwt) {
+        byte[] hash = newDigest().digest(jwt.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getEncoder().withoutPadding().encodeToString(hash);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return (MessageDigest) SHA256.clone();
+        } catch (CloneNotSupportedException e) {
+            return sha256();
+        }
+    }
 
-        return decodedJWT;
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,39 @@
+package com.example.pet.core.security;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.Instant;
+
+// ** 로그아웃 등으로 폐기된 토큰 (jti) - 토큰 만료 시각이 지나면 삭제됨
+@NoArgsConstructor
+@Getter
+@Table(indexes = {
+        // ** 다른 노드의 폐기 목록 증분 조회용
+        @Index(name = "idx_revoked_token_revoked_at", columnList = "revokedAt"),
+        // ** 만료된 행 정리용
+        @Index(name = "idx_revoked_token_expires_at", columnList = "expiresAt")
+})
+@Entity
+public class RevokedToken {
+    // ** 토큰의 jti 클레임 (UUID)
+    @Id
+    @Column(length = 36)
+    private String jti;
+
+    // ** 토큰 만료 시각 - 이후에는 서명 검증에서 거부되므로 보관할 필요 없음
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    @Column(nullable = false)
+    private Instant revokedAt;
+
+    @Builder
+    public RevokedToken(String jti, Instant expiresAt, Instant revokedAt) {
+        this.jti = jti;
+        this.expiresAt = expiresAt;
+        this.revokedAt = revokedAt;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.pet.core.security;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    // ** 기동 시 로딩 - 아직 만료되지 않은 폐기 토큰 전체
+    List<RevokedToken> findByExpiresAtAfter(Instant now);
+
+    // ** 증분 조회 - 마지막으로 본 시각 이후에 폐기된 토큰 (idx_revoked_token_revoked_at)
+    List<RevokedToken> findByRevokedAtAfter(Instant since);
+
+    // ** 만료된 행 정리
+    @Transactional
+    @Modifying
+    @Query("delete from RevokedToken r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
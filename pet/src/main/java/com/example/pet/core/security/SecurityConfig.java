@@ -1,26 +1,33 @@
 package com.example.pet.core.security;
 
-import com.example.pet.core.error.exception.Exception401;
-import com.example.pet.core.error.exception.Exception403;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.example.pet.core.error.exception.Exception503;
 import com.example.pet.core.utils.FilterResponseUtils;
+import com.example.pet.user.UserCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseCookie;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.logout.HttpStatusReturningLogoutSuccessHandler;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import javax.servlet.http.HttpServletRequest;
+
 /**
  * Spring Security 환경 설정을 구성하기 위한 클래스
  * 웹 서비스가 로드 될때 Spring Container 의해 관리가 되는 클래스
@@ -33,10 +40,20 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 @RequiredArgsConstructor
 @Configuration // ** 현재 클래스를 (설정 클래스)로 설정
 public class SecurityConfig {
+    private final UserCache userCache;
+    private final TokenRevocationStore revocationStore;
 
+    // ** bcrypt 는 요청 스레드가 아닌 전용 풀에서 실행 (BulkheadPasswordEncoder 참고)
     @Bean
-    public PasswordEncoder passwordEncoder(){
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    public BulkheadPasswordEncoder passwordEncoder(
+            @Value("${security.password.bulkhead.threads:0}") int threads,
+            @Value("${security.password.bulkhead.queue-capacity:64}") int queueCapacity,
+            @Value("${security.password.bulkhead.retry-after-seconds:1}") long retryAfter){
+        // ** 0 이면 CPU 코어 수만큼
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BulkheadPasswordEncoder(
+                PasswordEncoderFactories.createDelegatingPasswordEncoder(), poolSize, queueCapacity, retryAfter
+        );
     }
 
 
@@ -62,7 +79,7 @@ public class SecurityConfig {
                     AuthenticationManager.class
             );
 
-            httpSecurity.addFilter(new JwtAuthenticationFilter(authenticationManager));
+            httpSecurity.addFilter(new JwtAuthenticationFilter(authenticationManager, userCache, revocationStore));
 
             super.configure(httpSecurity);
         }
@@ -76,6 +93,7 @@ public class SecurityConfig {
     @Bean // 스프링 빈으로 등록
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         // 1. CSRF 해제 - 서버에 인증정보를 저장하지 않기때문에
+        // (쿠키 인증은 GET/HEAD 화면 요청에만 허용되고 쿠키는 SameSite=Lax - JwtTokenProvider.resolveToken)
         http.csrf().disable(); // postman 접근해야 함!! - CSR 할때!!
 
         // 2. iframe 거부 설정
@@ -98,14 +116,14 @@ public class SecurityConfig {
 
         // 8. 인증 실패 처리
         http.exceptionHandling().authenticationEntryPoint((request, response, authException) -> {
-            log.warn("인증되지 않은 사용자가 자원에 접근하려 합니다 : " + authException.getMessage());
-            FilterResponseUtils.unAuthorized(response, new Exception401("인증되지 않았습니다"));
+            log.warn("인증되지 않은 사용자가 자원에 접근하려 합니다 : {}", authException.getMessage());
+            FilterResponseUtils.unAuthorized(response);
         });
 
         // 9. 권한 실패 처리
         http.exceptionHandling().accessDeniedHandler((request, response, accessDeniedException) -> {
-            log.warn("권한이 없는 사용자가 자원에 접근하려 합니다 : " + accessDeniedException.getMessage());
-            FilterResponseUtils.forbidden(response, new Exception403("권한이 없습니다"));
+            log.warn("권한이 없는 사용자가 자원에 접근하려 합니다 : {}", accessDeniedException.getMessage());
+            FilterResponseUtils.forbidden(response);
         });
 
         // 10. 인증, 권한 필터 설정 - 경로에 대한 인증 설정
@@ -125,22 +143,55 @@ public class SecurityConfig {
 
         // 12. 로그아웃 관련 설정 (이 부분 추가)
         http.logout()
-                .logoutUrl("/logout")
+                // ** 상태를 바꾸는 요청이므로 POST 만 (CSRF 를 끈 대신, 다른 사이트의 링크/이미지 GET 으로 로그아웃되지 않도록)
+                .logoutRequestMatcher(new AntPathRequestMatcher("/logout", HttpMethod.POST.name()))
+                // ** 쿠키 삭제만으로는 토큰이 만료 전까지 유효하므로 폐기 목록에 등록
+                // 저장에 실패하면 쿠키를 남겨 둔 채 503 (다시 로그아웃할 수 있도록)
                 .logoutSuccessHandler((request, response, authentication) -> {
+                    try {
+                        revokeToken(request);
+                    } catch (Exception503 e) {
+                        FilterResponseUtils.serviceUnavailable(response, e);
+                        return;
+                    }
+                    response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(JwtTokenProvider.COOKIE, "")
+                            .httpOnly(true)
+                            .path("/")
+                            .sameSite("Lax")
+                            .maxAge(0)
+                            .build()
+                            .toString());
                     response.sendRedirect("/");
-                })
-                .deleteCookies("jwtToken");
+                });
 
         return http.build();
     }
 
-    // ** 규칙: 헤더(Authorization), 메서드, IP 주소, 클라이언트으 쿠키 요청을 허용
+    // ** 유효한 토큰만 폐기 (이미 만료되었거나 잘못된 토큰은 무시)
+    // (화면에서 로그아웃하면 토큰은 쿠키에만 있음 - SameSite=Lax 라 다른 사이트의 POST 에는 붙지 않음)
+    private void revokeToken(HttpServletRequest request) {
+        String jwt = JwtTokenProvider.resolveToken(request);
+        if (jwt == null) {
+            jwt = JwtTokenProvider.resolveCookie(request);
+        }
+        if (jwt == null) {
+            return;
+        }
+        try {
+            revocationStore.revoke(JwtTokenProvider.verify(jwt));
+        } catch (JWTVerificationException e) {
+            log.debug("로그아웃 - 폐기할 필요 없는 토큰 : {}", e.getMessage());
+        }
+    }
+
+    // ** 규칙: 헤더(Authorization), 메서드, IP 주소 요청을 허용
     public CorsConfigurationSource configurationSource() {
         CorsConfiguration corsConfigurationSource = new CorsConfiguration();
         corsConfigurationSource.addAllowedHeader("*"); // 모든 헤더를 허용
         corsConfigurationSource.addAllowedMethod("*"); // GET, POST, PUT, DELETE 등의 모든 메서드를 허용
         corsConfigurationSource.addAllowedOriginPattern("*"); // 모든 IP주소를 허용
-        corsConfigurationSource.setAllowCredentials(true); // 클라이언트 쿠키 요청 허용
+        // ** 모든 출처를 허용하므로 쿠키는 보내지 않음 (다른 출처의 API 요청은 Authorization 헤더로 인증)
+        corsConfigurationSource.setAllowCredentials(false);
         corsConfigurationSource.addExposedHeader("Authorization"); // 헤더
 
         UrlBasedCorsConfigurationSource urlBasedCorsConfigurationSource
@@ -0,0 +1,215 @@
+package com.example.pet.core.security;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.example.pet.core.error.exception.Exception503;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 폐기된 토큰(jti) 목록
+ * - 요청마다 DB 를 조회하지 않도록 메모리 집합(jti -> 만료 시각)으로 O(1) 확인
+ * - 만료 시각 순으로 정렬된 집합을 함께 두어, 앞에서부터 만료된 항목만 잘라냄
+ * - 폐기는 revoked_token 테이블에 저장하고, 각 노드는 revoked_at 기준으로 증분 조회해 몇 초 안에 같은 상태가 됨
+ */
+@Slf4j
+@Component
+public class TokenRevocationStore implements MeterBinder {
+    // ** 폐기 저장 재시도 (일시적인 연결 오류만 넘기고, 계속 실패하면 로그아웃 요청을 실패로 응답)
+    private static final int SAVE_ATTEMPTS = 3;
+    private static final long SAVE_BACKOFF_MS = 100;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    // ** 노드 간 시계 차이, 커밋 지연, 복제 지연을 덮기 위해 증분 조회 시 겹쳐서 다시 읽는 구간
+    private final Duration pollOverlap;
+
+    // ** jti -> 토큰 만료 시각 (epoch millis)
+    private final Map<UUID, Long> revoked = new ConcurrentHashMap<>();
+
+    // ** 만료 시각 순서 (정리용)
+    private final NavigableSet<Revocation> byExpiry = new ConcurrentSkipListSet<>(
+            Comparator.comparingLong(Revocation::getExpiresAt).thenComparing(Revocation::getJti)
+    );
+
+    // ** 지금까지 읽은 가장 최근 폐기 시각 (스케줄러 스레드에서만 변경)
+    private volatile Instant watermark = Instant.EPOCH;
+
+    public TokenRevocationStore(RevokedTokenRepository revokedTokenRepository,
+                                @Value("${security.token-revocation.poll-overlap-ms:30000}") long pollOverlapMs) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.pollOverlap = Duration.ofMillis(pollOverlapMs);
+    }
+
+    @PostConstruct
+    public void init() {
+        Instant now = Instant.now();
+        List<RevokedToken> tokens = revokedTokenRepository.findByExpiresAtAfter(now);
+        apply(tokens);
+        if (watermark.equals(Instant.EPOCH)) {
+            watermark = now;
+        }
+        log.info("폐기 토큰 로딩 : {}건", revoked.size());
+    }
+
+    // ** 토큰을 검증한 뒤 호출 - jti 가 없는 이전 토큰은 폐기할 수 없으므로 false
+    public boolean isRevoked(DecodedJWT jwt) {
+        UUID jti = parse(jwt.getId());
+        return jti != null && revoked.containsKey(jti);
+    }
+
+    // ** 로그아웃 - DB 에 저장한 뒤 이 노드에는 바로 반영 (다른 노드는 다음 증분 조회 때 반영)
+    // 저장에 끝내 실패하면 다른 노드에서는 토큰이 계속 유효하므로 503 으로 알려 다시 로그아웃하게 함
+    // (이 노드에는 그래도 반영해 둠 - 같은 jti 로 다시 저장해도 같은 행)
+    public void revoke(DecodedJWT jwt) {
+        UUID jti = parse(jwt.getId());
+        Date expiresAt = jwt.getExpiresAt();
+        if (jti == null || expiresAt == null) {
+            return;
+        }
+
+        try {
+            save(jti, expiresAt.toInstant());
+        } finally {
+            add(jti, expiresAt.getTime());
+        }
+    }
+
+    private void save(UUID jti, Instant expiresAt) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                revokedTokenRepository.save(RevokedToken.builder()
+                        .jti(jti.toString())
+                        .expiresAt(expiresAt)
+                        .revokedAt(Instant.now())
+                        .build());
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= SAVE_ATTEMPTS) {
+                    log.error("폐기 토큰 저장 실패 ({}회 시도) : {}", attempt, e.getMessage());
+                    throw new Exception503("로그아웃을 처리하지 못했습니다. 잠시 후 다시 시도해주세요.", 1);
+                }
+                log.warn("폐기 토큰 저장 실패 - 재시도 {}/{} : {}", attempt, SAVE_ATTEMPTS, e.getMessage());
+                sleep(SAVE_BACKOFF_MS * attempt);
+            }
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new Exception503("로그아웃을 처리하지 못했습니다. 잠시 후 다시 시도해주세요.", 1);
+        }
+    }
+
+    // ** 다른 노드에서 폐기한 토큰 증분 조회 + 만료된 항목 정리
+    @Scheduled(fixedDelayString = "${security.token-revocation.poll-interval-ms:2000}",
+            initialDelayString = "${security.token-revocation.poll-interval-ms:2000}")
+    public void poll() {
+        apply(revokedTokenRepository.findByRevokedAtAfter(watermark.minus(pollOverlap)));
+        prune(System.currentTimeMillis());
+    }
+
+    @Scheduled(fixedDelayString = "${security.token-revocation.cleanup-interval-ms:600000}",
+            initialDelayString = "${security.token-revocation.cleanup-interval-ms:600000}")
+    public void cleanup() {
+        int deleted = revokedTokenRepository.deleteExpired(Instant.now());
+        if (deleted > 0) {
+            log.info("만료된 폐기 토큰 삭제 : {}건", deleted);
+        }
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("jwt.revoked.size", this, TokenRevocationStore::size)
+                .register(registry);
+    }
+
+    private void apply(List<RevokedToken> tokens) {
+        Instant latest = watermark;
+        for (RevokedToken token : tokens) {
+            UUID jti = parse(token.getJti());
+            if (jti != null) {
+                add(jti, token.getExpiresAt().toEpochMilli());
+            }
+            if (token.getRevokedAt().isAfter(latest)) {
+                latest = token.getRevokedAt();
+            }
+        }
+        watermark = latest;
+    }
+
+    private void add(UUID jti, long expiresAt) {
+        if (expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+        if (revoked.putIfAbsent(jti, expiresAt) == null) {
+            byExpiry.add(new Revocation(expiresAt, jti));
+        }
+    }
+
+    // ** 만료 시각이 지난 항목만 앞에서부터 제거
+    private void prune(long now) {
+        Iterator<Revocation> iterator = byExpiry.iterator();
+        while (iterator.hasNext()) {
+            Revocation revocation = iterator.next();
+            if (revocation.getExpiresAt() > now) {
+                break;
+            }
+            iterator.remove();
+            revoked.remove(revocation.getJti());
+        }
+    }
+
+    private static UUID parse(String jti) {
+        if (jti == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(jti);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static final class Revocation {
+        private final long expiresAt;
+        private final UUID jti;
+
+        Revocation(long expiresAt, UUID jti) {
+            this.expiresAt = expiresAt;
+            this.jti = jti;
+        }
+
+        long getExpiresAt() {
+            return expiresAt;
+        }
+
+        UUID getJti() {
+            return jti;
+        }
+    }
+}
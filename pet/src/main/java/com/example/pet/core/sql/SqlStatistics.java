@@ -0,0 +1,132 @@
+package com.example.pet.core.sql;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 작업 범위(HTTP 요청, 테스트 블록 등) 동안 실행된 SQL 통계
+ * - 실행 횟수, 총 DB 시간, 가장 느린 문장
+ * - 같은 문장이 반복 실행된 횟수 (N+1 탐지용)
+ *
+ * 현재 스레드에 묶여 있으며 범위는 중첩 가능하다. 안쪽 범위가 끝나면 결과가 바깥 범위에 합쳐진다.
+ */
+public final class SqlStatistics {
+    private static final ThreadLocal<SqlStatistics> CURRENT = new ThreadLocal<>();
+
+    // ** 문장별 반복 횟수를 기록하는 서로 다른 SQL 의 최대 개수 (요청당 메모리 상한)
+    private static final int MAX_TRACKED_STATEMENTS = 64;
+
+    private final SqlStatistics parent;
+
+    private int count;
+    private long totalNanos;
+    private long slowestNanos;
+    private String slowestSql;
+    private Map<String, Integer> executions;
+
+    private SqlStatistics(SqlStatistics parent) {
+        this.parent = parent;
+    }
+
+    // ** 현재 스레드에서 새 범위 시작
+    public static SqlStatistics begin() {
+        SqlStatistics statistics = new SqlStatistics(CURRENT.get());
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    // ** 현재 범위 (없으면 null)
+    public static SqlStatistics current() {
+        return CURRENT.get();
+    }
+
+    // ** 실행된 SQL 을 현재 범위에 기록. 범위 밖(스케줄러, 시작 시 로딩 등)이면 무시
+    static void record(String sql, long elapsedNanos, int statements) {
+        SqlStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.add(sql, elapsedNanos, statements);
+        }
+    }
+
+    // ** 범위 종료. 바깥 범위가 있으면 결과를 합친다.
+    public void end() {
+        if (parent == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(parent);
+            parent.merge(this);
+        }
+    }
+
+    private void add(String sql, long elapsedNanos, int statements) {
+        count += statements;
+        totalNanos += elapsedNanos;
+        if (elapsedNanos >= slowestNanos) {
+            slowestNanos = elapsedNanos;
+            slowestSql = sql;
+        }
+        track(sql, statements);
+    }
+
+    private void merge(SqlStatistics child) {
+        count += child.count;
+        totalNanos += child.totalNanos;
+        if (child.slowestSql != null && child.slowestNanos >= slowestNanos) {
+            slowestNanos = child.slowestNanos;
+            slowestSql = child.slowestSql;
+        }
+        if (child.executions != null) {
+            child.executions.forEach(this::track);
+        }
+    }
+
+    private void track(String sql, int times) {
+        if (executions == null) {
+            executions = new HashMap<>();
+        }
+        Integer previous = executions.get(sql);
+        if (previous != null) {
+            executions.put(sql, previous + times);
+        } else if (executions.size() < MAX_TRACKED_STATEMENTS) {
+            executions.put(sql, times);
+        }
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getTotalMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(totalNanos);
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public long getSlowestMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(slowestNanos);
+    }
+
+    public String getSlowestSql() {
+        return slowestSql;
+    }
+
+    // ** 문장별 실행 횟수 (상한을 넘는 서로 다른 문장은 포함되지 않음)
+    public Map<String, Integer> getExecutions() {
+        return executions == null ? Collections.emptyMap() : Collections.unmodifiableMap(executions);
+    }
+
+    // ** 가장 많이 반복된 문장 (없으면 null)
+    public Map.Entry<String, Integer> mostRepeated() {
+        Map.Entry<String, Integer> max = null;
+        for (Map.Entry<String, Integer> entry : getExecutions().entrySet()) {
+            if (max == null || entry.getValue() > max.getValue()) {
+                max = entry;
+            }
+        }
+        return max;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.pet.core.sql;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+// ** 모든 DataSource 빈을 datasource-proxy 로 감싸 SQL 실행을 SqlStatistics 에 기록
+@Component
+public class SqlStatisticsDataSourcePostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource && !(bean instanceof ProxyDataSource)) {
+            return ProxyDataSourceBuilder.create((DataSource) bean)
+                    .name(beanName)
+                    .listener(new SqlStatisticsListener())
+                    .build();
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.pet.core.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 단위 SQL 통계
+ * 요청마다 범위를 열고, 끝나면 "메서드 경로 상태 - 실행 횟수 / 총 시간 / 가장 느린 문장" 한 줄을 남긴다.
+ * 같은 문장이 임계값 이상 반복되면 N+1 의심으로 경고한다.
+ * 요청당 실행 횟수/DB 시간은 http.server.sql.* 지표(uri 태그)로도 기록한다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatisticsFilter extends OncePerRequestFilter {
+    public static final String ATTRIBUTE = SqlStatistics.class.getName();
+
+    // ** 로그에 남길 SQL 최대 길이
+    private static final int MAX_SQL_LENGTH = 200;
+
+    private final int repeatThreshold;
+    private final MeterRegistry registry;
+
+    // ** "메서드 uri" -> 등록된 지표 (요청마다 builder/register 로 태그 조회를 반복하지 않도록)
+    private final ConcurrentMap<String, Meters> meters = new ConcurrentHashMap<>();
+
+    public SqlStatisticsFilter(@Value("${sql.statistics.repeat-threshold:5}") int repeatThreshold,
+                               MeterRegistry registry) {
+        this.repeatThreshold = repeatThreshold;
+        this.registry = registry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlStatistics statistics = SqlStatistics.begin();
+        request.setAttribute(ATTRIBUTE, statistics);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            statistics.end();
+            report(request, response, statistics);
+            record(request, statistics);
+        }
+    }
+
+    private void report(HttpServletRequest request, HttpServletResponse response, SqlStatistics statistics) {
+        if (statistics.getCount() == 0) {
+            log.debug("{} {} {} - sql 0건", request.getMethod(), request.getRequestURI(), response.getStatus());
+            return;
+        }
+        log.info("{} {} {} - sql {}건, {}ms, 최장 {}ms : {}",
+                request.getMethod(), request.getRequestURI(), response.getStatus(),
+                statistics.getCount(), statistics.getTotalMillis(),
+                statistics.getSlowestMillis(), abbreviate(statistics.getSlowestSql()));
+
+        Map.Entry<String, Integer> repeated = statistics.mostRepeated();
+        if (repeated != null && repeated.getValue() >= repeatThreshold) {
+            log.warn("{} {} - N+1 의심 : 같은 SQL {}회 실행 : {}",
+                    request.getMethod(), request.getRequestURI(), repeated.getValue(), abbreviate(repeated.getKey()));
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatistics statistics) {
+        // ** 경로 변수는 매핑 패턴으로 묶어 태그 수를 제한
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+
+        Meters current = meters.computeIfAbsent(method + " " + uri, key -> new Meters(registry, method, uri));
+        current.statements.record(statistics.getCount());
+        current.time.record(statistics.getTotalNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    // ** 메서드 + uri 태그 한 쌍의 지표
+    private static final class Meters {
+        private final DistributionSummary statements;
+        private final Timer time;
+
+        private Meters(MeterRegistry registry, String method, String uri) {
+            this.statements = DistributionSummary.builder("http.server.sql.statements")
+                    .tag("method", method)
+                    .tag("uri", uri)
+                    .publishPercentileHistogram()
+                    .register(registry);
+            this.time = Timer.builder("http.server.sql.time")
+                    .tag("method", method)
+                    .tag("uri", uri)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+    }
+
+    private static String abbreviate(String sql) {
+        if (sql == null || sql.length() <= MAX_SQL_LENGTH) {
+            return sql;
+        }
+        return sql.substring(0, MAX_SQL_LENGTH) + "...";
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.pet.core.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+// ** JDBC 실행마다 현재 범위(SqlStatistics)에 기록
+public class SqlStatisticsListener implements QueryExecutionListener {
+    private static final String START_NANOS = SqlStatisticsListener.class.getName() + ".start";
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        // ** ExecutionInfo 의 경과 시간은 ms 단위라 짧은 쿼리가 0 이 되므로 직접 측정
+        execInfo.addCustomValue(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long start = execInfo.getCustomValue(START_NANOS, Long.class);
+        if (start == null || queryInfoList.isEmpty()) {
+            return;
+        }
+        // ** batch 는 DB 왕복 한 번으로 센다.
+        String sql = queryInfoList.get(0).getQuery();
+        SqlStatistics.record(sql, System.nanoTime() - start, 1);
+    }
+}
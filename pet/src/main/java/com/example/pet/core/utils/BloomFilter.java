@@ -0,0 +1,112 @@
+package com.example.pet.core.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열용 블룸 필터 (thread-safe)
+ * mightContain 이 false 면 "확실히 없음", true 면 "있을 수도 있음".
+ * 비트 배열 크기는 예상 개수와 오탐률로 계산하되 메모리 상한(maxBytes)을 넘지 않는다.
+ */
+public class BloomFilter {
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashCount;
+    private final AtomicLong setBits = new AtomicLong();
+
+    private BloomFilter(long bitSize, int hashCount) {
+        this.words = new AtomicLongArray((int) ((bitSize + 63) >>> 6));
+        this.bitSize = bitSize;
+        this.hashCount = hashCount;
+    }
+
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate, long maxBytes) {
+        long n = Math.max(1, expectedInsertions);
+        long optimalBits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (LN2 * LN2));
+        long bits = Math.max(64, Math.min(optimalBits, maxBytes * 8));
+        int hashes = (int) Math.max(1, Math.round((double) bits / n * LN2));
+        return new BloomFilter(bits, hashes);
+    }
+
+    // ** 새로 켜진 비트가 있으면 true
+    public boolean put(String value) {
+        long h1 = hash(value);
+        long h2 = mix(h1 + 0x9E3779B97F4A7C15L);
+        boolean changed = false;
+        for (int i = 0; i < hashCount; i++) {
+            changed |= setBit(index(h1, h2, i));
+        }
+        return changed;
+    }
+
+    public boolean mightContain(String value) {
+        long h1 = hash(value);
+        long h2 = mix(h1 + 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashCount; i++) {
+            long index = index(h1, h2, i);
+            if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ** 켜진 비트 비율
+    public double fillRatio() {
+        return (double) setBits.get() / bitSize;
+    }
+
+    // ** 현재 채움 비율 기준의 예상 오탐률
+    public double expectedFalsePositiveRate() {
+        return Math.pow(fillRatio(), hashCount);
+    }
+
+    public long bitSize() {
+        return bitSize;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    private boolean setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = words.get(word);
+            if ((current & mask) != 0) {
+                return false;
+            }
+        } while (!words.compareAndSet(word, current, current | mask));
+        setBits.incrementAndGet();
+        return true;
+    }
+
+    // ** 이중 해싱 : h1 + i * h2
+    private long index(long h1, long h2, int i) {
+        return ((h1 + i * h2) & Long.MAX_VALUE) % bitSize;
+    }
+
+    // ** FNV-1a 64 + murmur3 finalizer
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.pet.core.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 에러 응답(ApiResult JSON) 작성기
+ * - ObjectWriter 는 thread-safe 하므로 하나만 만들어 공유
+ * - 자주 나가는 고정 메시지(401/403/404)는 시작 시 byte[] 로 직렬화해 두고 그대로 출력
+ */
+public class ErrorResponseWriter {
+    public static final MediaType CONTENT_TYPE = new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8);
+
+    public static final String UNAUTHORIZED = "인증되지 않았습니다";
+    public static final String FORBIDDEN = "권한이 없습니다";
+    public static final String NOT_FOUND = "존재하지 않는 경로입니다";
+
+    private static final String CONTENT_TYPE_VALUE = CONTENT_TYPE.toString();
+    private static final ObjectWriter WRITER = new ObjectMapper().writer();
+
+    // ** 상태 코드 -> (메시지 -> 직렬화된 본문)
+    private static final Map<HttpStatus, Map<String, byte[]>> PRERENDERED = new EnumMap<>(HttpStatus.class);
+
+    static {
+        prerender(HttpStatus.UNAUTHORIZED, UNAUTHORIZED);
+        prerender(HttpStatus.FORBIDDEN, FORBIDDEN);
+        prerender(HttpStatus.NOT_FOUND, NOT_FOUND);
+    }
+
+    private ErrorResponseWriter() {
+    }
+
+    // ** 에러 응답 본문. 미리 만들어 둔 본문이 있으면 그대로 반환
+    public static byte[] body(String message, HttpStatus status) {
+        Map<String, byte[]> byMessage = PRERENDERED.get(status);
+        if (byMessage != null) {
+            byte[] prerendered = byMessage.get(message);
+            if (prerendered != null) {
+                return prerendered;
+            }
+        }
+        return serialize(message, status);
+    }
+
+    // ** 응답 스트림에 바로 작성 (필터 등 MVC 밖에서 사용)
+    public static void write(HttpServletResponse response, HttpStatus status, byte[] body) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(CONTENT_TYPE_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static void prerender(HttpStatus status, String message) {
+        PRERENDERED.computeIfAbsent(status, key -> new HashMap<>()).put(message, serialize(message, status));
+    }
+
+    private static byte[] serialize(String message, HttpStatus status) {
+        try {
+            return WRITER.writeValueAsBytes(ApiUtils.error(message, status));
+        } catch (JsonProcessingException e) {
+            // ApiResult 는 항상 직렬화 가능하므로 발생하지 않음
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -3,50 +3,42 @@ package com.example.pet.core.utils;
 
 import com.example.pet.core.error.exception.Exception401;
 import com.example.pet.core.error.exception.Exception403;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.cfg.CoercionInputShape;
+import com.example.pet.core.error.exception.Exception503;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 
 // ** 에러 메시지를 HTTP 응답응답으로 설정하고 JSON 형태로 반환하는 유틸리티
+// 본문 직렬화는 ErrorResponseWriter 가 담당 (공유 ObjectWriter + 고정 메시지는 미리 직렬화된 byte[])
 public class FilterResponseUtils {
 
+    // ** 401 에러 - 미리 직렬화된 기본 메시지
+    public static void unAuthorized(HttpServletResponse response) throws IOException {
+        ErrorResponseWriter.write(response, HttpStatus.UNAUTHORIZED,
+                ErrorResponseWriter.body(ErrorResponseWriter.UNAUTHORIZED, HttpStatus.UNAUTHORIZED));
+    }
+
     // ** 401 에러
     public static void unAuthorized(HttpServletResponse response, Exception401 e) throws IOException {
+        ErrorResponseWriter.write(response, e.status(), ErrorResponseWriter.body(e.getMessage(), e.status()));
+    }
 
-        // ** HTTP 응답의 상태 코드를 설정. Exception401에서 상태 코드를 가져온다.
-        response.setStatus(e.status().value());
-
-        // ** 응답의 컨텐트 타입을 application/json; charset=utf-8으로 설정
-        response.setContentType("application/json; charset=utf-8");
-
-        // ** ObjectMapper 객체를 생성. Java 객체를 JSON 문자열로 변환하는 데 사용.
-        ObjectMapper objectMapper = new ObjectMapper();
-
-        // ** ObjectMapper를 사용해 Exception401의 본문을 JSON 문자열로 변환.
-        String responseBody = objectMapper.writeValueAsString(e.body());
-
-        // ** 변환된 JSON 문자열을 응답 본문에 작성
-        response.getWriter().println(responseBody);
+    // ** 403 에러 - 미리 직렬화된 기본 메시지
+    public static void forbidden(HttpServletResponse response) throws IOException {
+        ErrorResponseWriter.write(response, HttpStatus.FORBIDDEN,
+                ErrorResponseWriter.body(ErrorResponseWriter.FORBIDDEN, HttpStatus.FORBIDDEN));
     }
 
     // ** 403 에러
     public static void forbidden(HttpServletResponse response, Exception403 e) throws IOException {
+        ErrorResponseWriter.write(response, e.status(), ErrorResponseWriter.body(e.getMessage(), e.status()));
+    }
 
-        // ** HTTP 응답의 상태 코드를 설정. Exception403에서 상태 코드를 가져온다.
-        response.setStatus(e.status().value());
-
-        // ** 응답의 컨텐트 타입을 application/json; charset=utf-8으로 설정
-        response.setContentType("application/json; charset=utf-8");
-
-        // ** ObjectMapper 객체를 생성. Java 객체를 JSON 문자열로 변환하는 데 사용.
-        ObjectMapper objectMapper = new ObjectMapper();
-
-        // ** ObjectMapper를 사용해 Exception403의 본문을 JSON 문자열로 변환.
-        String responseBody = objectMapper.writeValueAsString(e.body());
-
-        // ** 변환된 JSON 문자열을 응답 본문에 작성
-        response.getWriter().println(responseBody);
+    // ** 503 에러 (Retry-After 이후 재시도)
+    public static void serviceUnavailable(HttpServletResponse response, Exception503 e) throws IOException {
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(e.retryAfter()));
+        ErrorResponseWriter.write(response, e.status(), ErrorResponseWriter.body(e.getMessage(), e.status()));
     }
 }
@@ -0,0 +1,46 @@
+package com.example.pet.home;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+// ** 미리 렌더링된 페이지 - 사용자 조각 자리를 기준으로 나눈 바이트 조각들
+// 응답 시에는 조각 사이사이에 사용자 조각을 끼워 그대로 복사만 한다.
+public class CachedPage {
+    private final byte[][] parts;
+
+    private CachedPage(byte[][] parts) {
+        this.parts = parts;
+    }
+
+    public static CachedPage split(String html, String slot) {
+        List<byte[]> parts = new ArrayList<>();
+        int from = 0;
+        int at;
+        while ((at = html.indexOf(slot, from)) >= 0) {
+            parts.add(html.substring(from, at).getBytes(StandardCharsets.UTF_8));
+            from = at + slot.length();
+        }
+        parts.add(html.substring(from).getBytes(StandardCharsets.UTF_8));
+        return new CachedPage(parts.toArray(new byte[0][]));
+    }
+
+    public int length(byte[] fragment) {
+        int length = fragment.length * (parts.length - 1);
+        for (byte[] part : parts) {
+            length += part.length;
+        }
+        return length;
+    }
+
+    public void write(OutputStream out, byte[] fragment) throws IOException {
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                out.write(fragment);
+            }
+            out.write(parts[i]);
+        }
+    }
+}
@@ -27,8 +27,8 @@ public class HomeController {
     private final HomeService homeService;
 
     @GetMapping("/")
-    public String main(Model model, HttpServletRequest request) {
-        homeService.userInfo(model,request);
+    public String main(Model model, @AuthenticationPrincipal CustomUserDetails userDetails) {
+        homeService.userInfo(model, userDetails);
         return "index";
     }
 
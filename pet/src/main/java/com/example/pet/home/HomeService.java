@@ -1,51 +1,21 @@
 package com.example.pet.home;
 
 
-import com.example.pet.core.security.JwtTokenProvider;
-import com.example.pet.user.User;
-import com.example.pet.user.UserRepository;
-import com.example.pet.user.UserService;
+import com.example.pet.core.security.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.ui.Model;
 
-import javax.servlet.http.Cookie;
-import javax.servlet.http.HttpServletRequest;
-import java.util.Arrays;
-import java.util.Optional;
-
-@Transactional(readOnly = true)
+// ** 화면 렌더링용 서비스 - DB 를 사용하지 않으므로 트랜잭션을 열지 않음
 @RequiredArgsConstructor
 @Service
 public class HomeService {
-    private final UserService userService;
-
-    public void userInfo(Model model, HttpServletRequest request){
-        // 쿠키에서 토큰을 가져옵니다.
-
-        Cookie[] cookies = request.getCookies();
-        System.out.println(String.valueOf(cookies != null));
-        if (cookies != null) {
-            for (Cookie cookie : cookies) {
-
-                System.out.println(cookie.getName());
-                if (cookie.getName().equals("jwtToken")) {
-                    String token = cookie.getValue();
-                    // 토큰에서 이메일 정보를 가져옵니다.
-
-                    System.out.printf(token);
-
-                    String email = JwtTokenProvider.verify(token.replace(JwtTokenProvider.TOKEN_PREFIX, "")).getSubject();
-                    Optional<User> user = userService.findByEmail(email);
 
-                    if (user.isPresent()) {
-                        model.addAttribute("user", user.get());
-                    }
-                    break;
-                }
-            }
+    // ** JwtAuthenticationFilter 가 요청당 한 번 검증해 둔 사용자 정보를 화면에 전달
+    public void userInfo(Model model, CustomUserDetails userDetails){
+        if (userDetails != null) {
+            model.addAttribute("user", userDetails.getUser());
         }
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,73 @@
+package com.example.pet.home;
+
+import com.example.pet.user.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.View;
+import org.springframework.web.servlet.ViewResolver;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// ** 캐시 대상 페이지를 Thymeleaf 보다 먼저 가로채서 PageFragmentCache 의 바이트로 응답
+// 캐시 대상이 아니면 null 을 반환해 ThymeleafViewResolver 가 처리하도록 함
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "view.page-cache.enabled", havingValue = "true")
+public class PageCacheViewResolver implements ViewResolver, Ordered {
+    // ** 모델에서 user 외의 값을 사용하지 않는 페이지만 캐시 가능
+    private static final Set<String> CACHEABLE_VIEWS = Set.of("index", "petsitter", "join", "login");
+
+    private static final String CONTENT_TYPE = "text/html;charset=UTF-8";
+
+    private final PageFragmentCache pageFragmentCache;
+
+    private final Map<String, View> views = new ConcurrentHashMap<>();
+
+    @Override
+    public View resolveViewName(String viewName, Locale locale) {
+        if (!CACHEABLE_VIEWS.contains(viewName)) {
+            return null;
+        }
+        return views.computeIfAbsent(viewName, CachedPageView::new);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    private class CachedPageView implements View {
+        private final String viewName;
+
+        CachedPageView(String viewName) {
+            this.viewName = viewName;
+        }
+
+        @Override
+        public String getContentType() {
+            return CONTENT_TYPE;
+        }
+
+        // ** HomeService 가 모델에 넣은 로그인 사용자로 사용자 조각을 만들어 끼워 넣음
+        @Override
+        public void render(Map<String, ?> model, HttpServletRequest request, HttpServletResponse response) throws Exception {
+            CachedPage page = pageFragmentCache.page(viewName);
+            Object user = model == null ? null : model.get("user");
+            byte[] fragment = pageFragmentCache.userFragment(user instanceof User ? (User) user : null);
+
+            response.setContentType(CONTENT_TYPE);
+            response.setContentLength(page.length(fragment));
+            ServletOutputStream out = response.getOutputStream();
+            page.write(out, fragment);
+            out.flush();
+        }
+    }
+}
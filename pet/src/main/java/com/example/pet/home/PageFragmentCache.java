@@ -0,0 +1,213 @@
+package com.example.pet.home;
+
+import com.example.pet.user.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.MessageSource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.IEngineConfiguration;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ITemplateResolver;
+import org.thymeleaf.templateresolver.StringTemplateResolver;
+import org.thymeleaf.templateresolver.TemplateResolution;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 페이지 출력 캐시 (view.page-cache.enabled=true, 운영 프로필)
+ * 페이지의 공통 부분은 한 번 렌더링한 바이트를 그대로 재사용하고,
+ * 사용자마다 다른 조각(fragments/user :: greeting)만 요청마다 끼워 넣는다.
+ * 공통 부분은 사용자 조각 템플릿 대신 자리 표시만 들어 있는 조각을 읽는 전용 엔진으로 렌더링한다.
+ * (캐시 대상 페이지는 모델의 user 외에 데이터를 보여주지 않으므로 템플릿 파일이 바뀔 때만 비운다)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "view.page-cache.enabled", havingValue = "true")
+public class PageFragmentCache implements MeterBinder {
+    // ** 공통 부분을 렌더링할 때 사용자 조각 자리에 출력되는 표시
+    static final String USER_SLOT = "<!--fragment:user-->";
+
+    private static final String USER_FRAGMENT = "fragments/user";
+    private static final Set<String> USER_FRAGMENT_SELECTORS = Collections.singleton("greeting");
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final SpringTemplateEngine templateEngine;
+
+    // ** 공통 부분 렌더링용 - 같은 템플릿/방언에 fragments/user 만 자리 표시 조각으로 바뀜
+    private final SpringTemplateEngine shellEngine;
+
+    private final ResourceLoader resourceLoader;
+    private final String prefix;
+    private final String suffix;
+
+    // ** 뷰 이름 -> 공통 부분
+    private final Map<String, CachedPage> pages = new ConcurrentHashMap<>();
+
+    // ** 사용자 이름 -> 렌더링된 사용자 조각
+    private final Cache<String, byte[]> userFragments;
+
+    // ** 템플릿 이름 -> 렌더링 직전에 확인한 파일 수정 시각
+    private final Map<String, Long> templateModified = new ConcurrentHashMap<>();
+
+    public PageFragmentCache(SpringTemplateEngine templateEngine,
+                             MessageSource messageSource,
+                             ResourceLoader resourceLoader,
+                             @Value("${spring.thymeleaf.prefix:classpath:/templates/}") String prefix,
+                             @Value("${spring.thymeleaf.suffix:.html}") String suffix,
+                             @Value("${view.page-cache.user-fragments:10000}") long maximumUserFragments) {
+        this.templateEngine = templateEngine;
+        this.shellEngine = shellEngine(templateEngine, messageSource);
+        this.resourceLoader = resourceLoader;
+        this.prefix = prefix;
+        this.suffix = suffix;
+        this.userFragments = Caffeine.newBuilder()
+                .maximumSize(maximumUserFragments)
+                .recordStats()
+                .build();
+    }
+
+    public CachedPage page(String viewName) {
+        return pages.computeIfAbsent(viewName, this::render);
+    }
+
+    // ** 로그인하지 않은 사용자는 빈 조각
+    public byte[] userFragment(User user) {
+        if (user == null) {
+            return EMPTY;
+        }
+        String username = user.getUsername() == null ? "" : user.getUsername();
+        return userFragments.get(username, key -> renderUserFragment(user));
+    }
+
+    // ** 템플릿 파일 변경 확인 (jar 배포에서는 바뀌지 않고, 개발 중 클래스패스 갱신 시 반영)
+    @Scheduled(fixedDelayString = "${view.page-cache.check-interval-ms:5000}")
+    public void checkTemplates() {
+        for (Map.Entry<String, Long> entry : templateModified.entrySet()) {
+            if (lastModified(entry.getKey()) != entry.getValue()) {
+                log.info("템플릿 변경 감지 : {} - 페이지 캐시 초기화", entry.getKey());
+                invalidateAll();
+                return;
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        templateModified.clear();
+        templateEngine.clearTemplateCache();
+        shellEngine.clearTemplateCache();
+        pages.clear();
+        userFragments.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("view.page.cache.size", pages, Map::size)
+                .register(registry);
+        CaffeineCacheMetrics.monitor(registry, userFragments, "view.user.fragment");
+    }
+
+    // ** 수정 시각을 먼저 기록해야 렌더링 도중 바뀐 템플릿이 다음 확인에서 감지됨
+    private CachedPage render(String viewName) {
+        watch(viewName);
+        watch(USER_FRAGMENT);
+
+        return CachedPage.split(shellEngine.process(viewName, new Context()), USER_SLOT);
+    }
+
+    private byte[] renderUserFragment(User user) {
+        Context context = new Context();
+        context.setVariable("user", user);
+        return templateEngine.process(USER_FRAGMENT, USER_FRAGMENT_SELECTORS, context)
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static SpringTemplateEngine shellEngine(SpringTemplateEngine templateEngine, MessageSource messageSource) {
+        SpringTemplateEngine engine = new SpringTemplateEngine();
+        engine.setDialects(templateEngine.getDialects());
+        engine.setEnableSpringELCompiler(templateEngine.getEnableSpringELCompiler());
+        engine.setMessageSource(messageSource);
+        // ** 앱 엔진이 정렬해 둔 순서 그대로 위임
+        engine.setTemplateResolver(new UserSlotTemplateResolver(
+                new ArrayList<>(templateEngine.getConfiguration().getTemplateResolvers())));
+        return engine;
+    }
+
+    private void watch(String templateName) {
+        templateModified.putIfAbsent(templateName, lastModified(templateName));
+    }
+
+    private long lastModified(String templateName) {
+        try {
+            return resourceLoader.getResource(prefix + templateName + suffix).lastModified();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    // ** fragments/user 만 자리 표시 조각으로 바꾸고, 나머지 템플릿은 앱의 resolver 에 순서대로 맡김
+    private static final class UserSlotTemplateResolver implements ITemplateResolver {
+        private final List<ITemplateResolver> delegates;
+        private final StringTemplateResolver slot = new StringTemplateResolver();
+        private final String slotTemplate;
+
+        private UserSlotTemplateResolver(List<ITemplateResolver> delegates) {
+            this.delegates = delegates;
+            this.slot.setTemplateMode(TemplateMode.HTML);
+
+            // ** 선택자마다 자리 표시만 출력하는 조각
+            StringBuilder builder = new StringBuilder();
+            for (String selector : USER_FRAGMENT_SELECTORS) {
+                builder.append("<th:block th:fragment=\"").append(selector).append("\">")
+                        .append(USER_SLOT)
+                        .append("</th:block>");
+            }
+            this.slotTemplate = builder.toString();
+        }
+
+        @Override
+        public String getName() {
+            return UserSlotTemplateResolver.class.getSimpleName();
+        }
+
+        @Override
+        public Integer getOrder() {
+            return null;
+        }
+
+        @Override
+        public TemplateResolution resolveTemplate(IEngineConfiguration configuration, String ownerTemplate,
+                                                  String template, Map<String, Object> templateResolutionAttributes) {
+            if (USER_FRAGMENT.equals(template)) {
+                // ** StringTemplateResolver 는 템플릿 이름을 내용으로 사용
+                return slot.resolveTemplate(configuration, ownerTemplate, slotTemplate, templateResolutionAttributes);
+            }
+            for (ITemplateResolver delegate : delegates) {
+                TemplateResolution resolution = delegate.resolveTemplate(
+                        configuration, ownerTemplate, template, templateResolutionAttributes);
+                if (resolution != null) {
+                    return resolution;
+                }
+            }
+            return null;
+        }
+    }
+}
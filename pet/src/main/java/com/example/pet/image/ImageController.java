@@ -0,0 +1,42 @@
+package com.example.pet.image;
+
+import com.example.pet.core.utils.ApiUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+@RequiredArgsConstructor
+@RestController
+public class ImageController {
+    private final ImageService imageService;
+
+    // ** 펫시터 이미지 등록 - 저장된 이미지 키 반환
+    @PostMapping(value = "/petsitter/{id}/image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> upload(@PathVariable Long id, @RequestParam("file") MultipartFile file) throws IOException {
+        String key = imageService.upload(id, file);
+        ApiUtils.ApiResult<?> apiResult = ApiUtils.success(key);
+        return ResponseEntity.ok(apiResult);
+    }
+
+    // ** 원본 이미지
+    @GetMapping("/images/{key:.+}")
+    public void original(@PathVariable String key, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        imageService.serve(key, false, request, response);
+    }
+
+    // ** 썸네일 (아직 생성 전이면 캐시하지 않는 원본)
+    @GetMapping("/images/{key:.+}/thumbnail")
+    public void thumbnail(@PathVariable String key, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        imageService.serve(key, true, request, response);
+    }
+}
@@ -0,0 +1,201 @@
+package com.example.pet.image;
+
+import com.example.pet.core.error.exception.Exception400;
+import com.example.pet.core.error.exception.Exception404;
+import com.example.pet.petsitter.PetSitter;
+import com.example.pet.petsitter.PetSitterChangedEvent;
+import com.example.pet.petsitter.PetSitterRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+@RequiredArgsConstructor
+@Service
+public class ImageService {
+    // ** 내용 주소 기반이라 키가 같으면 내용도 같음 -> 1년 캐시 + immutable
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    // ** 썸네일 생성 전 원본으로 대체한 응답은 같은 URL 이 곧 바뀌므로 매번 재검증
+    private static final String FALLBACK_CACHE_CONTROL = "no-cache";
+
+    // ** Tomcat sendfile (커널 zero-copy 전송) 요청 속성
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final Map<String, String> EXTENSIONS = new HashMap<>();
+    private static final Map<String, String> CONTENT_TYPES = new HashMap<>();
+
+    static {
+        EXTENSIONS.put("image/jpeg", "jpg");
+        EXTENSIONS.put("image/png", "png");
+        EXTENSIONS.put("image/gif", "gif");
+        EXTENSIONS.put("image/webp", "webp");
+        EXTENSIONS.forEach((contentType, extension) -> CONTENT_TYPES.put(extension, contentType));
+    }
+
+    private final ImageStore imageStore;
+    private final ThumbnailGenerator thumbnailGenerator;
+    private final PetSitterRepository petSitterRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // ** 이미지 저장 후 펫시터에 키를 연결하고, 썸네일 생성을 예약
+    @Transactional
+    public String upload(Long petSitterId, MultipartFile file) throws IOException {
+        String extension = file.getContentType() == null ? null : EXTENSIONS.get(file.getContentType());
+        if (file.isEmpty() || extension == null) {
+            throw new Exception400("jpg, png, gif, webp 이미지만 등록 가능합니다.");
+        }
+
+        PetSitter petSitter = petSitterRepository.findById(petSitterId).orElseThrow(
+                () -> new Exception404("해당 펫시터를 찾을 수 없습니다. : " + petSitterId)
+        );
+
+        String key;
+        try (InputStream inputStream = file.getInputStream()) {
+            key = imageStore.store(inputStream, extension);
+        }
+
+        petSitter.changeImage(key);
+        eventPublisher.publishEvent(PetSitterChangedEvent.updated(petSitter));
+
+        thumbnailGenerator.submit(key);
+        return key;
+    }
+
+    // ** 이미지 전송. thumbnail 요청인데 아직 썸네일이 없으면 원본을 보낸다. (캐시 / ETag 없이)
+    public void serve(String key, boolean thumbnail, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path file = imageStore.resolve(key);
+        boolean fallback = false;
+        if (thumbnail) {
+            Path thumbnailFile = imageStore.thumbnailOf(key);
+            if (Files.exists(thumbnailFile)) {
+                file = thumbnailFile;
+            } else {
+                fallback = true;
+            }
+        }
+        if (!Files.exists(file)) {
+            throw new Exception404("이미지를 찾을 수 없습니다. : " + key);
+        }
+
+        // ** 파일 이름이 내용 해시이므로 그대로 강한 ETag 로 사용
+        // 대체 응답에 원본 ETag 를 주면 썸네일이 생긴 뒤에도 304 로 원본이 계속 쓰이므로 생략
+        String etag = fallback ? null : "\"" + file.getFileName() + "\"";
+        if (etag != null) {
+            response.setHeader(HttpHeaders.ETAG, etag);
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, fallback ? FALLBACK_CACHE_CONTROL : CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (etag != null && ifNoneMatch != null && (ifNoneMatch.contains(etag) || ifNoneMatch.trim().equals("*"))) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        long length = Files.size(file);
+        long start = 0;
+        long end = length - 1;
+
+        // ** Range 처리 (단일 구간만 지원, If-Range 가 다르면 전체 전송 - ETag 가 없는 대체 응답은 항상 다름)
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (range != null && (ifRange == null || (etag != null && ifRange.equals(etag)))) {
+            long[] bounds = parseRange(range, length);
+            if (bounds == null) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+            start = bounds[0];
+            end = bounds[1];
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+
+        String fileName = file.getFileName().toString();
+        String contentType = CONTENT_TYPES.get(fileName.substring(fileName.lastIndexOf('.') + 1));
+        response.setContentType(contentType == null ? "application/octet-stream" : contentType);
+        response.setContentLengthLong(end - start + 1);
+
+        if ("HEAD".equals(request.getMethod()) || length == 0) {
+            return;
+        }
+
+        // ** Tomcat 이 sendfile 을 지원하면 파일 전송을 컨테이너(커널)에 맡긴다.
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        // ** 지원하지 않으면 FileChannel 에서 응답 채널로 직접 전송
+        OutputStream outputStream = response.getOutputStream();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(outputStream);
+            long position = start;
+            long remaining = end - start + 1;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, target);
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    // ** "bytes=a-b", "bytes=a-", "bytes=-n" 형식. 만족할 수 없는 범위면 null
+    private static long[] parseRange(String range, long length) {
+        if (!range.startsWith("bytes=") || range.indexOf(',') >= 0 || length == 0) {
+            return null;
+        }
+        String spec = range.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+            if (first.isEmpty()) {
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0) {
+                    return null;
+                }
+                start = Math.max(0, length - suffix);
+                end = length - 1;
+            } else {
+                start = Long.parseLong(first);
+                end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+            }
+            if (start < 0 || start > end || start >= length) {
+                return null;
+            }
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
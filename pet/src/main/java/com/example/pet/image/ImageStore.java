@@ -0,0 +1,103 @@
+package com.example.pet.image;
+
+import com.example.pet.core.error.exception.Exception400;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * 내용 주소 기반(content-addressed) 이미지 저장소
+ * - 파일 내용의 SHA-256 해시가 곧 키 ("<해시>.<확장자>")
+ * - 같은 내용의 파일은 한 번만 저장됨
+ * - 저장 위치 : <root>/<해시 앞 2자리>/<키>, 썸네일은 같은 폴더의 <해시>.thumb.jpg
+ */
+@Slf4j
+@Component
+public class ImageStore {
+    private static final Pattern KEY_PATTERN = Pattern.compile("^[0-9a-f]{64}\\.[a-z0-9]{1,5}$");
+    private static final String THUMBNAIL_SUFFIX = ".thumb.jpg";
+
+    private final Path root;
+    private final Path tmp;
+
+    public ImageStore(@Value("${image.storage.path}") String path) throws IOException {
+        this.root = Paths.get(path).toAbsolutePath().normalize();
+        this.tmp = root.resolve("tmp");
+        Files.createDirectories(tmp);
+    }
+
+    // ** 스트림을 임시 파일로 옮기면서 해시를 계산하고, 최종 위치로 이동. (힙에 파일 전체를 올리지 않음)
+    public String store(InputStream inputStream, String extension) throws IOException {
+        MessageDigest digest = sha256();
+        Path temp = tmp.resolve("upload-" + UUID.randomUUID());
+        try {
+            try (ReadableByteChannel source = Channels.newChannel(new DigestInputStream(inputStream, digest));
+                 FileChannel target = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                target.transferFrom(source, 0, Long.MAX_VALUE);
+            }
+
+            String key = toHex(digest.digest()) + "." + extension;
+            Path file = resolve(key);
+            if (Files.exists(file)) {
+                // ** 이미 같은 내용이 저장되어 있음
+                Files.delete(temp);
+                return key;
+            }
+            Files.createDirectories(file.getParent());
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+            return key;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    public Path resolve(String key) {
+        if (key == null || !KEY_PATTERN.matcher(key).matches()) {
+            throw new Exception400("잘못된 이미지 키입니다. : " + key);
+        }
+        return root.resolve(key.substring(0, 2)).resolve(key);
+    }
+
+    public Path thumbnailOf(String key) {
+        Path original = resolve(key);
+        String hash = key.substring(0, key.indexOf('.'));
+        return original.resolveSibling(hash + THUMBNAIL_SUFFIX);
+    }
+
+    public Path tempFile() {
+        return tmp.resolve("thumb-" + UUID.randomUUID());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16));
+            sb.append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+}
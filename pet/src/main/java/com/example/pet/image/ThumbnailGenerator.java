@@ -0,0 +1,141 @@
+package com.example.pet.image;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 썸네일 비동기 생성
+ * - 스레드 수와 대기열 크기가 고정된 전용 풀에서 실행
+ * - 대기열이 가득 차면 생성을 건너뛰고, 조회 시 원본으로 대체됨
+ * - 헤더의 가로/세로로 픽셀 수를 먼저 확인하고, 썸네일 크기 근처까지 건너뛰며 디코딩 (압축 폭탄 방지)
+ */
+@Slf4j
+@Component
+public class ThumbnailGenerator {
+    private final ImageStore imageStore;
+    private final int size;
+    private final long maxPixels;
+    private final ThreadPoolExecutor executor;
+
+    public ThumbnailGenerator(ImageStore imageStore,
+                              @Value("${image.thumbnail.size:320}") int size,
+                              @Value("${image.thumbnail.max-pixels:50000000}") long maxPixels,
+                              @Value("${image.thumbnail.threads:2}") int threads,
+                              @Value("${image.thumbnail.queue-capacity:100}") int queueCapacity) {
+        this.imageStore = imageStore;
+        this.size = size;
+        this.maxPixels = maxPixels;
+
+        AtomicInteger count = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "thumbnail-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    public void submit(String key) {
+        try {
+            executor.execute(() -> generate(key));
+        } catch (RejectedExecutionException e) {
+            log.warn("썸네일 대기열이 가득 차서 생성을 건너뜁니다 : {}", key);
+        }
+    }
+
+    private void generate(String key) {
+        Path target = imageStore.thumbnailOf(key);
+        if (Files.exists(target)) {
+            return;
+        }
+
+        Path temp = imageStore.tempFile();
+        try {
+            BufferedImage source = read(key, imageStore.resolve(key));
+            if (source == null) {
+                return;
+            }
+
+            // ** 긴 변을 size 에 맞춰 비율 유지 축소 (원본보다 크게 만들지는 않음)
+            double scale = Math.min(1.0, (double) size / Math.max(source.getWidth(), source.getHeight()));
+            int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+            int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+            BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = thumbnail.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.drawImage(source, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+
+            ImageIO.write(thumbnail, "jpg", temp.toFile());
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            log.warn("썸네일 생성 실패 : {} - {}", key, e.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException ignored) {
+                // 임시 파일 정리 실패는 무시
+            }
+        }
+    }
+
+    // ** 전체를 디코딩하지 않고 헤더의 크기부터 확인, 긴 변이 size 의 2배 정도가 되도록 subsampling
+    // 2배를 남겨 두어 이후 bilinear 축소 품질을 유지
+    BufferedImage read(String key, Path file) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                log.debug("썸네일을 만들 수 없는 형식입니다 : {}", key);
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if (width <= 0 || height <= 0 || (long) width * height > maxPixels) {
+                    log.warn("썸네일을 만들기에 너무 큰 이미지입니다 : {} ({}x{})", key, width, height);
+                    return null;
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, Math.max(width, height) / (size * 2));
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.pet.petsitter;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+// ** 한글 검색용 n-gram 토크나이저
+// 형태소 분석 없이 글자/숫자 연속 구간을 2-gram, 3-gram 으로 잘라 토큰으로 사용한다.
+public class NGramTokenizer {
+
+    private NGramTokenizer() {
+    }
+
+    // ** 토큰 -> 출현 횟수
+    public static Map<String, Integer> tokenize(String text) {
+        Map<String, Integer> terms = new HashMap<>();
+        if (text == null) {
+            return terms;
+        }
+
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean letter = i < length && Character.isLetterOrDigit(normalized.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                addGrams(normalized, start, i, terms);
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    private static void addGrams(String text, int start, int end, Map<String, Integer> terms) {
+        int length = end - start;
+
+        // ** 한 글자 단어는 그대로 토큰으로 사용
+        if (length == 1) {
+            terms.merge(text.substring(start, end), 1, Integer::sum);
+            return;
+        }
+        for (int i = start; i + 2 <= end; i++) {
+            terms.merge(text.substring(i, i + 2), 1, Integer::sum);
+        }
+        for (int i = start; i + 3 <= end; i++) {
+            terms.merge(text.substring(i, i + 3), 1, Integer::sum);
+        }
+    }
+}
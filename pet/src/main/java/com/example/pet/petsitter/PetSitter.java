@@ -4,15 +4,39 @@ package com.example.pet.petsitter;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import javax.persistence.*;
+import java.time.Instant;
 
 @NoArgsConstructor
 @Getter
+@Table(indexes = {
+        // ** 목록 조회(keyset 페이징)용 복합 인덱스 - 정렬 순서 (price, id) 와 동일
+        @Index(name = "idx_pet_sitter_price_id", columnList = "price, id"),
+        // ** 목록 Last-Modified (max(updated_at)) 조회용
+        @Index(name = "idx_pet_sitter_updated_at", columnList = "updated_at")
+}, uniqueConstraints = {
+        // ** 지연 저장 재처리 시 이미 저장된 기록을 찾기 위한 추적 id (지연 저장이 아닌 등록은 null)
+        @UniqueConstraint(name = "uk_pet_sitter_ingest_tracking_id", columnNames = "ingest_tracking_id")
+})
 @Entity
 public class PetSitter {
+    // ** IDENTITY 는 insert 마다 DB 에서 id 를 받아와야 해서 JDBC batch 가 불가능
+    // pooled-lo 시퀀스로 id 를 50개씩 미리 할당받아 batch insert 가 되도록 함
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pet_sitter_seq")
+    @GenericGenerator(
+            name = "pet_sitter_seq",
+            strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator",
+            parameters = {
+                    @Parameter(name = "sequence_name", value = "pet_sitter_seq"),
+                    @Parameter(name = "increment_size", value = "50"),
+                    @Parameter(name = "optimizer", value = "pooled-lo")
+            }
+    )
     private Long id;
 
     // ** 펫시터 등록 제목
@@ -32,6 +56,20 @@ public class PetSitter {
 
     private String area;
 
+    // ** 수정될 때마다 1씩 증가 - 상세 조회 ETag 로 사용
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    // ** 마지막 수정 시각 (등록 시에도 설정됨) - Last-Modified 로 사용
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    // ** 지연 저장(PetSitterIngestQueue)으로 등록된 경우의 추적 id
+    @Column(name = "ingest_tracking_id", length = 36)
+    private String ingestTrackingId;
+
     @Builder
     public PetSitter(Long id, String title, String description, String image, String area , int price) {
         this.id = id;
@@ -42,6 +80,16 @@ public class PetSitter {
         this.price = price;
     }
 
+    // ** 지연 저장 추적 id 연결 (저장 전에만)
+    public void assignIngestTrackingId(String ingestTrackingId) {
+        this.ingestTrackingId = ingestTrackingId;
+    }
+
+    // ** 이미지 키 변경 (ImageStore 에 저장된 키)
+    public void changeImage(String image) {
+        this.image = image;
+    }
+
     //DTO -> Entity
 //    public void updateFromDTO(PetSitterResponse.FindByIdDTO productDTO){
 //        // 모든 변경 사항을 셋팅. =>  기존에 있는 데이터에 저장해야하기 때문에 new 객체 생성을 하는 toEntity 사용 불가
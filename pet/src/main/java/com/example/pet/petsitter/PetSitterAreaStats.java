@@ -0,0 +1,305 @@
+package com.example.pet.petsitter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 지역별 가격 집계 (건수, 합계, 최소, 최대, 평균, 히스토그램)
+ * - 요청마다 GROUP BY 하지 않고, 커밋된 변경 이벤트로 증감만 반영
+ * - 최소/최대/백분위는 삭제/수정에도 정확하도록 가격별 건수(TreeMap)로 유지
+ * - 주기적으로 DB 와 다시 맞춘다. (이벤트 유실 등으로 어긋난 값 보정)
+ *   보정용 GROUP BY 와 목록 버전을 같은 스냅샷에서 읽고, 보정 중에 도착한 이벤트는
+ *   목록 버전으로 조회에 포함됐는지 구분해서 포함되지 않은 것만 새 집계에 다시 반영한다.
+ */
+@Slf4j
+@Component
+public class PetSitterAreaStats {
+    private final PetSitterRepository petSitterRepository;
+    private final PetSitterListingVersionRepository listingVersionRepository;
+    private final TransactionTemplate snapshotTemplate;
+    private final int bucketWidth;
+    private final int bucketCount;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // ** lock 으로 보호
+    private Map<String, Aggregate> aggregates = new HashMap<>();
+
+    // ** aggregates 에 이미 포함된 목록 버전 (이하 버전의 이벤트는 다시 반영하지 않음)
+    private long baseVersion;
+
+    // ** 보정 중에 도착한 이벤트 (보정 중이 아니면 null)
+    private List<Pending> pending;
+
+    // ** 조회용 결과 (변경이 있으면 null 로 비우고 다음 조회 때 다시 만듦)
+    private volatile PetSitterResponse.StatsDTO view;
+
+    public PetSitterAreaStats(PetSitterRepository petSitterRepository,
+                              PetSitterListingVersionRepository listingVersionRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${petsitter.stats.bucket-width:10000}") int bucketWidth,
+                              @Value("${petsitter.stats.bucket-count:20}") int bucketCount) {
+        this.petSitterRepository = petSitterRepository;
+        this.listingVersionRepository = listingVersionRepository;
+        this.bucketWidth = bucketWidth;
+        this.bucketCount = bucketCount;
+
+        // ** 버전 행과 GROUP BY 를 같은 스냅샷에서 읽도록 REPEATABLE READ 트랜잭션
+        // readOnly 로 두면 레플리카로 라우팅되어, 지연된 만큼의 변경이 조회에도 pending 에도 없게 됨
+        this.snapshotTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    @PostConstruct
+    public void init() {
+        reconcile();
+    }
+
+    @TransactionalEventListener
+    public void onChanged(PetSitterChangedEvent event) {
+        apply(Collections.singletonList(event), event.getListingVersion());
+    }
+
+    @TransactionalEventListener
+    public void onBatchChanged(PetSitterBatchChangedEvent event) {
+        apply(event.getChanges(), event.getListingVersion());
+    }
+
+    // ** listingVersion 이 0 이면 조회 포함 여부를 알 수 없으므로 항상 반영 (다음 보정에서 맞춰짐)
+    private void apply(List<PetSitterChangedEvent> events, long listingVersion) {
+        lock.lock();
+        try {
+            if (pending != null) {
+                pending.add(new Pending(events, listingVersion));
+            }
+            if (listingVersion != 0 && listingVersion <= baseVersion) {
+                return;
+            }
+            apply(aggregates, events);
+            view = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void apply(Map<String, Aggregate> target, List<PetSitterChangedEvent> events) {
+        for (PetSitterChangedEvent event : events) {
+            PetSitter petSitter = event.getPetSitter();
+            if (event.isDeleted()) {
+                remove(target, event.getPreviousArea(), event.getPreviousPrice());
+            } else {
+                if (!event.isCreated()) {
+                    remove(target, event.getPreviousArea(), event.getPreviousPrice());
+                }
+                aggregate(target, normalize(petSitter.getArea())).add(petSitter.getPrice(), 1);
+            }
+        }
+    }
+
+    public PetSitterResponse.StatsDTO stats() {
+        PetSitterResponse.StatsDTO current = view;
+        if (current != null) {
+            return current;
+        }
+        lock.lock();
+        try {
+            if (view == null) {
+                view = render();
+            }
+            return view;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ** DB 기준으로 다시 집계해서 교체
+    // 조회 시작 전부터 이벤트를 기록하므로, 조회 스냅샷 이후에 커밋된 변경은 모두 pending 에 있다.
+    // 그중 스냅샷 버전보다 큰 것만 새 집계에 반영하고, 교체 후에 늦게 도착하는 이벤트도
+    // baseVersion 이하면 건너뛰어 두 번 더해지지 않는다.
+    @Scheduled(fixedDelayString = "${petsitter.stats.reconcile-interval-ms:600000}",
+            initialDelayString = "${petsitter.stats.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        lock.lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            Map<String, Aggregate> fresh = new HashMap<>();
+            long snapshotVersion = snapshotTemplate.execute(status -> {
+                long current = listingVersionRepository.findVersion()
+                        .map(PetSitterVersion::getVersion)
+                        .orElse(0L);
+                for (Object[] row : petSitterRepository.countByAreaAndPrice()) {
+                    aggregate(fresh, normalize((String) row[0]))
+                            .add((Integer) row[1], ((Long) row[2]).intValue());
+                }
+                return current;
+            });
+            swap(fresh, snapshotVersion);
+        } finally {
+            lock.lock();
+            try {
+                pending = null;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void swap(Map<String, Aggregate> fresh, long snapshotVersion) {
+        lock.lock();
+        try {
+            int replayed = 0;
+            for (Pending events : pending) {
+                if (events.listingVersion == 0 || events.listingVersion > snapshotVersion) {
+                    apply(fresh, events.changes);
+                    replayed++;
+                }
+            }
+            if (replayed > 0) {
+                log.debug("지역별 집계 보정 : 보정 중 도착한 변경 {}건 재반영", replayed);
+            }
+            int drifted = countDrift(aggregates, fresh);
+            if (drifted > 0) {
+                log.warn("지역별 집계 보정 : {}개 지역 값이 DB 와 달라 교체", drifted);
+            }
+            aggregates = fresh;
+            baseVersion = Math.max(baseVersion, snapshotVersion);
+            view = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remove(Map<String, Aggregate> target, String area, Integer price) {
+        if (price == null) {
+            return;
+        }
+        String key = normalize(area);
+        Aggregate aggregate = target.get(key);
+        if (aggregate == null) {
+            return;
+        }
+        aggregate.add(price, -1);
+        if (aggregate.count == 0) {
+            target.remove(key);
+        }
+    }
+
+    private Aggregate aggregate(Map<String, Aggregate> target, String area) {
+        return target.computeIfAbsent(area, key -> new Aggregate(bucketWidth, bucketCount));
+    }
+
+    private PetSitterResponse.StatsDTO render() {
+        List<PetSitterResponse.AreaStatsDTO> areas = new ArrayList<>(aggregates.size());
+        aggregates.forEach((area, aggregate) -> areas.add(aggregate.toDTO(area)));
+        areas.sort((a, b) -> Long.compare(b.getCount(), a.getCount()));
+        return new PetSitterResponse.StatsDTO(bucketWidth, Collections.unmodifiableList(areas));
+    }
+
+    private static int countDrift(Map<String, Aggregate> current, Map<String, Aggregate> fresh) {
+        int drifted = 0;
+        for (Map.Entry<String, Aggregate> entry : fresh.entrySet()) {
+            Aggregate existing = current.get(entry.getKey());
+            if (existing == null || !existing.prices.equals(entry.getValue().prices)) {
+                drifted++;
+            }
+        }
+        for (String area : current.keySet()) {
+            if (!fresh.containsKey(area)) {
+                drifted++;
+            }
+        }
+        return drifted;
+    }
+
+    private static String normalize(String area) {
+        return area == null ? "" : area.trim();
+    }
+
+    // ** 보정 중에 도착한 변경 묶음과 그 목록 버전
+    private static final class Pending {
+        private final List<PetSitterChangedEvent> changes;
+        private final long listingVersion;
+
+        private Pending(List<PetSitterChangedEvent> changes, long listingVersion) {
+            this.changes = changes;
+            this.listingVersion = listingVersion;
+        }
+    }
+
+    // ** 한 지역의 누적 값
+    private static final class Aggregate {
+        private final int bucketWidth;
+        private final long[] histogram;
+
+        // ** 가격 -> 건수 (최소/최대/백분위용)
+        private final TreeMap<Integer, Integer> prices = new TreeMap<>();
+
+        private long count;
+        private long sum;
+
+        private Aggregate(int bucketWidth, int bucketCount) {
+            this.bucketWidth = bucketWidth;
+            this.histogram = new long[bucketCount];
+        }
+
+        // ** times 가 음수면 제거
+        private void add(int price, int times) {
+            count += times;
+            sum += (long) price * times;
+            histogram[bucket(price)] += times;
+            prices.merge(price, times, (a, b) -> a + b == 0 ? null : a + b);
+        }
+
+        // ** 마지막 구간은 그 이상 가격을 모두 포함
+        private int bucket(int price) {
+            return Math.min(Math.max(price, 0) / bucketWidth, histogram.length - 1);
+        }
+
+        private int percentile(double p) {
+            long rank = Math.max(1, (long) Math.ceil(p * count));
+            long seen = 0;
+            for (Map.Entry<Integer, Integer> entry : prices.entrySet()) {
+                seen += entry.getValue();
+                if (seen >= rank) {
+                    return entry.getKey();
+                }
+            }
+            return prices.isEmpty() ? 0 : prices.lastKey();
+        }
+
+        private PetSitterResponse.AreaStatsDTO toDTO(String area) {
+            List<Long> buckets = new ArrayList<>(histogram.length);
+            for (long value : histogram) {
+                buckets.add(value);
+            }
+            return new PetSitterResponse.AreaStatsDTO(
+                    area, count,
+                    prices.isEmpty() ? 0 : prices.firstKey(),
+                    prices.isEmpty() ? 0 : prices.lastKey(),
+                    count == 0 ? 0 : Math.round((double) sum / count),
+                    percentile(0.5), percentile(0.9),
+                    buckets
+            );
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.pet.petsitter;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+// ** 한 트랜잭션에서 여러 건이 바뀐 경우 (대량 등록, 지연 저장)
+// 메모리 인덱스들이 건마다 새로 만들지 않고 한 번에 반영하도록 묶어서 발행한다.
+@Getter
+@RequiredArgsConstructor
+public class PetSitterBatchChangedEvent {
+    private final List<PetSitterChangedEvent> changes;
+
+    // ** 이 batch 로 올라간 목록 버전 (커밋 직전에 채워짐, 0 이면 모름)
+    @Setter
+    private long listingVersion;
+}
@@ -0,0 +1,217 @@
+package com.example.pet.petsitter;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 펫시터 대량 등록
+ * - 요청 본문(JSON 배열 또는 NDJSON)을 한 행씩 읽으므로 전체 본문을 메모리에 올리지 않음
+ * - 행마다 검증하고, 통과한 행은 batchSize 개씩 모아 하나의 트랜잭션에서 JDBC batch insert
+ * - 실패한 행은 행 번호와 사유를 모아서 반환
+ */
+@Slf4j
+@Service
+public class PetSitterBulkService {
+    // ** 응답에 담을 실패 행의 최대 개수
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public PetSitterBulkService(ObjectMapper objectMapper,
+                                Validator validator,
+                                PlatformTransactionManager transactionManager,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${petsitter.bulk.batch-size:500}") int batchSize) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+    }
+
+    public PetSitterResponse.BulkResultDTO importStream(InputStream inputStream) throws IOException {
+        Report report = new Report();
+        List<PetSitterResponse.FindAllDTO> batch = new ArrayList<>(batchSize);
+        List<Integer> batchRows = new ArrayList<>(batchSize);
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(inputStream);
+             MappingIterator<PetSitterResponse.FindAllDTO> rows =
+                     objectMapper.readerFor(PetSitterResponse.FindAllDTO.class).readValues(parser)) {
+
+            int row = 0;
+            while (true) {
+                PetSitterResponse.FindAllDTO dto;
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    row++;
+                    dto = rows.nextValue();
+                } catch (JsonParseException e) {
+                    // ** JSON 문법 오류 이후로는 행 경계를 알 수 없으므로 중단
+                    report.fail(row, "JSON 형식 오류로 이후 행을 읽을 수 없습니다. : " + e.getOriginalMessage());
+                    break;
+                } catch (JsonMappingException e) {
+                    // ** 값 타입 오류는 해당 행만 실패 처리하고 다음 행으로 진행
+                    report.fail(row, "잘못된 값입니다. : " + e.getOriginalMessage());
+                    continue;
+                }
+
+                String invalid = validate(dto);
+                if (invalid != null) {
+                    report.fail(row, invalid);
+                    continue;
+                }
+
+                batch.add(dto);
+                batchRows.add(row);
+                if (batch.size() == batchSize) {
+                    flush(batch, batchRows, report);
+                }
+            }
+            report.total = row;
+        }
+
+        flush(batch, batchRows, report);
+        return new PetSitterResponse.BulkResultDTO(report.total, report.saved, report.failed, report.errors);
+    }
+
+    // ** 하나의 트랜잭션에서 batch insert 후 저장된 엔티티 반환
+    public List<PetSitter> saveBatch(List<PetSitterResponse.FindAllDTO> dtos) {
+        return transactionTemplate.execute(status -> {
+            List<PetSitter> saved = new ArrayList<>(dtos.size());
+            for (PetSitterResponse.FindAllDTO dto : dtos) {
+                PetSitter petSitter = dto.toEntity();
+                entityManager.persist(petSitter);
+                saved.add(petSitter);
+            }
+            flushAndPublish(saved);
+            return saved;
+        });
+    }
+
+    // ** 지연 저장용 - 추적 id 와 함께 저장하고 (trackingIds 와 같은 순서의) 펫시터 id 반환
+    // 이미 같은 추적 id 로 저장된 행이 있으면 (저장 커밋 후 checkpoint 기록 전에 종료되어 재처리되는 경우)
+    // 다시 저장하지 않고 기존 id 를 돌려줌
+    public List<Long> saveIngested(List<String> trackingIds, List<PetSitterResponse.FindAllDTO> dtos) {
+        return transactionTemplate.execute(status -> {
+            Map<String, Long> existing = new HashMap<>();
+            List<Object[]> rows = entityManager.createQuery(
+                            "select p.ingestTrackingId, p.id from PetSitter p where p.ingestTrackingId in :trackingIds",
+                            Object[].class)
+                    .setParameter("trackingIds", trackingIds)
+                    .getResultList();
+            for (Object[] row : rows) {
+                existing.put((String) row[0], (Long) row[1]);
+            }
+
+            List<PetSitter> saved = new ArrayList<>(dtos.size());
+            List<PetSitter> ordered = new ArrayList<>(dtos.size());
+            for (int i = 0; i < dtos.size(); i++) {
+                if (existing.containsKey(trackingIds.get(i))) {
+                    ordered.add(null);
+                    continue;
+                }
+                PetSitter petSitter = dtos.get(i).toEntity();
+                petSitter.assignIngestTrackingId(trackingIds.get(i));
+                entityManager.persist(petSitter);
+                saved.add(petSitter);
+                ordered.add(petSitter);
+            }
+            flushAndPublish(saved);
+
+            List<Long> ids = new ArrayList<>(dtos.size());
+            for (int i = 0; i < dtos.size(); i++) {
+                PetSitter petSitter = ordered.get(i);
+                ids.add(petSitter == null ? existing.get(trackingIds.get(i)) : petSitter.getId());
+            }
+            return ids;
+        });
+    }
+
+    private void flushAndPublish(List<PetSitter> saved) {
+        entityManager.flush();
+        entityManager.clear();
+        if (saved.isEmpty()) {
+            return;
+        }
+
+        // 커밋 후 검색 인덱스 갱신 - 건마다가 아니라 batch 단위 이벤트 하나로
+        List<PetSitterChangedEvent> changes = new ArrayList<>(saved.size());
+        for (PetSitter petSitter : saved) {
+            changes.add(PetSitterChangedEvent.saved(petSitter));
+        }
+        eventPublisher.publishEvent(new PetSitterBatchChangedEvent(changes));
+    }
+
+    private void flush(List<PetSitterResponse.FindAllDTO> batch, List<Integer> batchRows, Report report) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            report.saved += saveBatch(batch).size();
+        } catch (RuntimeException e) {
+            log.warn("펫시터 대량 등록 batch 실패 ({}건) : {}", batch.size(), e.getMessage());
+            for (Integer row : batchRows) {
+                report.fail(row, "저장 중 오류가 발생했습니다.");
+            }
+        }
+        batch.clear();
+        batchRows.clear();
+    }
+
+    private String validate(PetSitterResponse.FindAllDTO dto) {
+        if (dto == null) {
+            return "빈 행입니다.";
+        }
+        Set<ConstraintViolation<PetSitterResponse.FindAllDTO>> violations = validator.validate(dto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        ConstraintViolation<PetSitterResponse.FindAllDTO> violation = violations.iterator().next();
+        return violation.getMessage() + ":" + violation.getPropertyPath();
+    }
+
+    // ** 등록 결과 집계
+    private static class Report {
+        private int total;
+        private int saved;
+        private int failed;
+        private final List<PetSitterResponse.RowErrorDTO> errors = new ArrayList<>();
+
+        private void fail(int row, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new PetSitterResponse.RowErrorDTO(row, message));
+            }
+        }
+    }
+}
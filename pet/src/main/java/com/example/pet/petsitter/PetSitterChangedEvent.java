@@ -0,0 +1,44 @@
+package com.example.pet.petsitter;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+
+// ** 펫시터 등록/수정/삭제 이벤트
+// 트랜잭션 커밋 후 메모리 인덱스들이 이 이벤트를 받아 자신을 갱신한다.
+@Getter
+@RequiredArgsConstructor
+public class PetSitterChangedEvent {
+    private final PetSitter petSitter;
+
+    private final boolean deleted;
+
+    // ** 새로 등록된 행인지 (집계가 이전 값을 빼야 하는지 판단)
+    private final boolean created;
+
+    // ** 수정 전 지역/가격 (등록이면 null)
+    private final String previousArea;
+
+    private final Integer previousPrice;
+
+    // ** 이 변경으로 올라간 목록 버전 (커밋 직전에 채워짐, 0 이면 모름)
+    @Setter
+    private long listingVersion;
+
+    public static PetSitterChangedEvent saved(PetSitter petSitter) {
+        return new PetSitterChangedEvent(petSitter, false, true, null, null);
+    }
+
+    // ** 지역/가격은 그대로인 수정 (이미지 변경 등)
+    public static PetSitterChangedEvent updated(PetSitter petSitter) {
+        return updated(petSitter, petSitter.getArea(), petSitter.getPrice());
+    }
+
+    public static PetSitterChangedEvent updated(PetSitter petSitter, String previousArea, int previousPrice) {
+        return new PetSitterChangedEvent(petSitter, false, false, previousArea, previousPrice);
+    }
+
+    public static PetSitterChangedEvent deleted(PetSitter petSitter) {
+        return new PetSitterChangedEvent(petSitter, true, false, petSitter.getArea(), petSitter.getPrice());
+    }
+}
@@ -1,41 +1,122 @@
 package com.example.pet.petsitter;
 
+import com.example.pet.core.error.exception.Exception404;
 import com.example.pet.core.utils.ApiUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.net.URI;
 import java.util.List;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 @RequestMapping("/petsitter")
 @RestController
 public class PetSitterController {
     private final PetSitterService productService;
+    private final PetSitterBulkService bulkService;
+
+    // ** 지연 저장 모드 (petsitter.ingest.enabled=true 일 때만 존재)
+    private final Optional<PetSitterIngestQueue> ingestQueue;
 
     @PostMapping // 저장 Post - "/products"
     public ResponseEntity<?> save(@RequestBody PetSitterResponse.FindAllDTO product){
+        // ** 지연 저장 모드 - 파일 대기열에 기록 후 202 + 추적 id (상태는 Location 으로 조회)
+        if (ingestQueue.isPresent()) {
+            PetSitterResponse.IngestStatusDTO status = ingestQueue.get().accept(product);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/petsitter/ingest/" + status.getTrackingId()))
+                    .body(ApiUtils.success(status));
+        }
+
         PetSitter save = productService.save(product);
 
         ApiUtils.ApiResult<?> apiResult = ApiUtils.success(save);
         return ResponseEntity.ok(apiResult);
     }
-//
-//    // ** 전체 상품 확인
-//    @GetMapping //조회 - Get - "/products"
-//    public ResponseEntity<?> findAll(@RequestParam(defaultValue = "0") int page){
-//        List<PetSitterResponse.FindAllDTO> productResponses = productService.findAll(page);
-//        ApiUtils.ApiResult<?> apiResult = ApiUtils.success(productResponses);
-//        return ResponseEntity.ok(apiResult);
-//    }
-//
-//    // ** 개별 상품 확인
-//    @GetMapping("/{id}")  // 조회 (하나만) Get - "/products/{id}"
-//    public ResponseEntity<?> findById(@PathVariable Long id){
-//        PetSitterResponse.FindByIdDTO productDTOS = productService.findById(id);
-//        ApiUtils.ApiResult<?> apiResult = ApiUtils.success(productDTOS);
-//        return ResponseEntity.ok(apiResult);
-//    }
+
+    // ** 대량 등록 - JSON 배열 또는 NDJSON(한 줄에 하나씩) 본문을 스트리밍으로 처리
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<?> bulk(HttpServletRequest request) throws IOException {
+        PetSitterResponse.BulkResultDTO result = bulkService.importStream(request.getInputStream());
+        ApiUtils.ApiResult<?> apiResult = ApiUtils.success(result);
+        return ResponseEntity.ok(apiResult);
+    }
+
+    // ** 지연 저장 모드 등록 처리 상태
+    @GetMapping("/ingest/{trackingId}")
+    public ResponseEntity<?> ingestStatus(@PathVariable String trackingId){
+        PetSitterIngestQueue queue = ingestQueue.orElseThrow(
+                () -> new Exception404("지연 저장 모드를 사용하지 않습니다.")
+        );
+        ApiUtils.ApiResult<?> apiResult = ApiUtils.success(queue.status(trackingId));
+        return ResponseEntity.ok(apiResult);
+    }
+
+    // ** 펫시터 목록 (커서 기반 페이징)
+    // 브라우저 페이지 요청(text/html)은 HomeController 가 처리하고, JSON 요청만 여기서 처리
+    // 목록이 바뀌지 않았으면 (If-None-Match / If-Modified-Since) 목록 조회와 직렬화 없이 304
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> findAll(@RequestParam(required = false) String cursor,
+                                     @RequestParam(defaultValue = "10") int size,
+                                     WebRequest webRequest){
+        PetSitterVersion version = productService.findListingVersion();
+        if (webRequest.checkNotModified(version.weakETag(), version.lastModified())) {
+            return null;
+        }
+
+        PetSitterResponse.PageDTO page = productService.findAll(cursor, size);
+        ApiUtils.ApiResult<?> apiResult = ApiUtils.success(page);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(apiResult);
+    }
+
+    // ** 펫시터 상세 - ETag 는 version (checkNotModified 가 ETag / Last-Modified 헤더도 설정)
+    // 버전 확인 후 엔티티를 읽기 전에 수정되면 본문이 헤더보다 새 버전일 수 있지만,
+    // 다음 요청에서 ETag 가 달라 200 으로 다시 받으므로 잘못된 304 는 생기지 않음
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> findById(@PathVariable Long id, WebRequest webRequest){
+        PetSitterVersion version = productService.findVersion(id);
+        if (webRequest.checkNotModified(version.strongETag(), version.lastModified())) {
+            return null;
+        }
+
+        PetSitterResponse.DetailDTO detail = productService.findById(id);
+        ApiUtils.ApiResult<?> apiResult = ApiUtils.success(detail);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(apiResult);
+    }
+
+    // ** 지역별 가격 통계 (건수, 최소, 최대, 평균, 중앙값, p90, 히스토그램)
+    @GetMapping("/stats")
+    public ResponseEntity<?> stats(){
+        ApiUtils.ApiResult<?> apiResult = ApiUtils.success(productService.stats());
+        return ResponseEntity.ok(apiResult);
+    }
+
+    // ** 지역 + 가격 범위 검색 (DB 조회 없음)
+    @GetMapping("/facets")
+    public ResponseEntity<?> facets(@RequestParam(required = false) List<String> area,
+                                    @RequestParam(defaultValue = "0") int minPrice,
+                                    @RequestParam(defaultValue = "" + Integer.MAX_VALUE) int maxPrice,
+                                    @RequestParam(defaultValue = "20") int limit){
+        PetSitterResponse.FacetDTO facets = productService.searchFacets(area, minPrice, maxPrice, limit);
+        ApiUtils.ApiResult<?> apiResult = ApiUtils.success(facets);
+        return ResponseEntity.ok(apiResult);
+    }
+
+    // ** 제목/설명 키워드 검색
+    @GetMapping("/search")
+    public ResponseEntity<?> search(@RequestParam String q,
+                                    @RequestParam(defaultValue = "20") int limit){
+        PetSitterResponse.SearchDTO result = productService.search(q, limit);
+        ApiUtils.ApiResult<?> apiResult = ApiUtils.success(result);
+        return ResponseEntity.ok(apiResult);
+    }
 //
 //    @PutMapping("/{id}") // 수정 Put - "/products/{id}"
 //    public ResponseEntity<?> update(@PathVariable Long id, @RequestBody PetSitterResponse.FindByIdDTO productDTO) {
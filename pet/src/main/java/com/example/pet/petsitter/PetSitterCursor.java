@@ -0,0 +1,36 @@
+package com.example.pet.petsitter;
+
+import com.example.pet.core.error.exception.Exception400;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// ** 목록 페이징 커서 - 마지막으로 조회한 (price, id) 를 클라이언트가 해석할 수 없는 문자열로 감싼다.
+@Getter
+@RequiredArgsConstructor
+public class PetSitterCursor {
+    private static final String SPLIT_CHAR = ":";
+
+    private final int price;
+    private final Long id;
+
+    public static String encode(int price, Long id) {
+        String raw = price + SPLIT_CHAR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PetSitterCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int split = raw.indexOf(SPLIT_CHAR);
+            return new PetSitterCursor(
+                    Integer.parseInt(raw.substring(0, split)),
+                    Long.parseLong(raw.substring(split + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new Exception400("잘못된 커서 값입니다. : " + cursor);
+        }
+    }
+}
@@ -0,0 +1,544 @@
+package com.example.pet.petsitter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 지역(area) + 가격(price) 검색용 메모리 인덱스
+ * - 지역은 사전(dictionary) 인코딩된 int id 로 저장
+ * - 모든 행은 (price, id) 순으로 정렬된 컬럼 배열에 저장되어 가격 범위는 이진 탐색으로 찾음
+ * - 지역별 비트맵(long[])으로 "area ∈ {...}" 조건과 가격 범위 안의 지역별 건수를 계산 (범위 비트 AND + popcount)
+ *
+ * 본 배열(Base)은 불변이고, 이후 변경은 작은 변경분(Delta: 추가 행 + 삭제된 본 배열 위치)에만 반영한다.
+ * 변경분이 MERGE_THRESHOLD 를 넘으면 본 배열과 합쳐 새로 만든다. (쓰기 한 건은 변경분 크기만큼만 복사)
+ * 읽기는 불변 스냅샷을 그대로 사용하고, 쓰기는 새 스냅샷을 만들어 교체한다. (copy-on-write)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PetSitterFacetIndex {
+    // ** 지역 정보가 없는 행에 사용하는 값
+    private static final String UNKNOWN_AREA = "";
+
+    // ** 변경분(추가 행 + 삭제 위치)이 이 수를 넘으면 본 배열에 합침
+    static final int MERGE_THRESHOLD = 1024;
+
+    private final PetSitterRepository petSitterRepository;
+
+    // ** 쓰기 직렬화용 락 (읽기는 락 없이 스냅샷 사용)
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    // ** 시작 시 DB 에서 (id, area, price) 만 읽어 인덱스를 만든다.
+    @PostConstruct
+    public void load() {
+        List<Object[]> rows = petSitterRepository.findAllFacetRows();
+
+        Map<String, Integer> areaIds = new HashMap<>();
+        List<String> areaNames = new ArrayList<>();
+        Row[] sorted = new Row[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            Object[] row = rows.get(i);
+            int area = areaIds.computeIfAbsent(normalize((String) row[1]), name -> {
+                areaNames.add(name);
+                return areaNames.size() - 1;
+            });
+            sorted[i] = new Row((Long) row[0], (Integer) row[2], area);
+        }
+        Arrays.sort(sorted);
+
+        writeLock.lock();
+        try {
+            snapshot = new Snapshot(Base.of(sorted, areaNames.size()), Delta.EMPTY,
+                    areaNames.toArray(new String[0]), areaIds);
+        } finally {
+            writeLock.unlock();
+        }
+        log.info("펫시터 검색 인덱스 로딩 완료 : {}건, 지역 {}개", sorted.length, areaNames.size());
+    }
+
+    // ** 커밋된 변경만 반영
+    @TransactionalEventListener
+    public void onChanged(PetSitterChangedEvent event) {
+        apply(Collections.singletonList(event));
+    }
+
+    @TransactionalEventListener
+    public void onBatchChanged(PetSitterBatchChangedEvent event) {
+        apply(event.getChanges());
+    }
+
+    // ** 여러 건의 변경을 스냅샷 한 번으로 반영
+    public void apply(Collection<PetSitterChangedEvent> events) {
+        List<Change> changes = new ArrayList<>(events.size());
+        for (PetSitterChangedEvent event : events) {
+            PetSitter petSitter = event.getPetSitter();
+            changes.add(new Change(petSitter.getId(), petSitter.getArea(), petSitter.getPrice(), event.isDeleted()));
+        }
+        update(changes);
+    }
+
+    public void upsert(Long id, String area, int price) {
+        update(Collections.singletonList(new Change(id, area, price, false)));
+    }
+
+    public void remove(Long id) {
+        update(Collections.singletonList(new Change(id, null, 0, true)));
+    }
+
+    /**
+     * area ∈ areas (비어 있으면 전체) 이면서 minPrice <= price <= maxPrice 인 행을 가격순으로 limit 개 반환.
+     * 지역별 건수는 가격 조건만 적용해서 함께 계산한다.
+     */
+    public PetSitterResponse.FacetDTO search(Collection<String> areas, int minPrice, int maxPrice, int limit) {
+        Snapshot s = snapshot;
+        Base base = s.base;
+        Delta delta = s.delta;
+
+        // ** 가격 범위 [from, to) - 본 배열과 변경분 각각
+        int from = lowerBound(base.prices, minPrice);
+        int to = Math.max(upperBound(base.prices, maxPrice), from);
+        int deltaFrom = lowerBound(delta.prices, minPrice);
+        int deltaTo = Math.max(upperBound(delta.prices, maxPrice), deltaFrom);
+
+        // ** 가격 범위 안의 지역별 건수 - 지역 비트맵의 범위 popcount, 삭제된 위치는 빼고 추가 행은 더함
+        int[] counts = new int[s.areaNames.length];
+        for (int a = 0; a < base.areaWords.length; a++) {
+            counts[a] = rangeCount(base.areaWords[a], from, to);
+        }
+        for (int d = lowerBound(delta.dead, from); d < delta.dead.length && delta.dead[d] < to; d++) {
+            counts[base.areas[delta.dead[d]]]--;
+        }
+        for (int i = deltaFrom; i < deltaTo; i++) {
+            counts[delta.areas[i]]++;
+        }
+
+        // ** 지역 조건 (없으면 null) 과 조건에 맞는 전체 건수
+        boolean[] selected = s.select(areas);
+        int total = 0;
+        for (int a = 0; a < counts.length; a++) {
+            if (selected == null || selected[a]) {
+                total += counts[a];
+            }
+        }
+
+        // ** 본 배열과 변경분을 (price, id) 순으로 합치며 limit 개
+        long[] mask = selected == null ? null : base.mask(selected, from, to);
+        List<PetSitterResponse.FacetHitDTO> hits = new ArrayList<>(Math.min(limit, total));
+        int i = base.next(mask, delta.dead, from, to);
+        int j = delta.next(selected, deltaFrom, deltaTo);
+        while (hits.size() < limit && (i < to || j < deltaTo)) {
+            boolean fromBase = j >= deltaTo || (i < to && compare(base.prices[i], base.ids[i], delta.prices[j], delta.ids[j]) < 0);
+            if (fromBase) {
+                hits.add(new PetSitterResponse.FacetHitDTO(base.ids[i], s.areaNames[base.areas[i]], base.prices[i]));
+                i = base.next(mask, delta.dead, i + 1, to);
+            } else {
+                hits.add(new PetSitterResponse.FacetHitDTO(delta.ids[j], s.areaNames[delta.areas[j]], delta.prices[j]));
+                j = delta.next(selected, j + 1, deltaTo);
+            }
+        }
+
+        Map<String, Integer> areaCounts = new LinkedHashMap<>();
+        for (int a = 0; a < counts.length; a++) {
+            if (counts[a] > 0) {
+                areaCounts.put(s.areaNames[a], counts[a]);
+            }
+        }
+
+        return new PetSitterResponse.FacetDTO(hits, total, areaCounts);
+    }
+
+    // ** 변경분에 반영하고, 변경분이 커지면 본 배열과 합침
+    private void update(List<Change> changes) {
+        writeLock.lock();
+        try {
+            Snapshot current = snapshot;
+            Base base = current.base;
+
+            Map<Long, Row> added = current.delta.rows();
+            TreeSet<Integer> dead = current.delta.deadSet();
+            String[] areaNames = current.areaNames;
+            Map<String, Integer> areaIds = current.areaIds;
+
+            for (Change change : changes) {
+                added.remove(change.id);
+                int pos = base.position(change.id);
+                if (pos >= 0) {
+                    dead.add(pos);
+                }
+                if (change.deleted) {
+                    continue;
+                }
+
+                // ** 지역 사전에 없으면 새 id 를 발급.
+                String name = normalize(change.area);
+                Integer areaId = areaIds.get(name);
+                if (areaId == null) {
+                    if (areaIds == current.areaIds) {
+                        areaIds = new HashMap<>(areaIds);
+                    }
+                    areaId = areaNames.length;
+                    areaNames = Arrays.copyOf(areaNames, areaNames.length + 1);
+                    areaNames[areaId] = name;
+                    areaIds.put(name, areaId);
+                }
+                added.put(change.id, new Row(change.id, change.price, areaId));
+            }
+
+            Row[] rows = added.values().toArray(new Row[0]);
+            Arrays.sort(rows);
+            if (rows.length + dead.size() > MERGE_THRESHOLD) {
+                snapshot = new Snapshot(base.merge(dead, rows, areaNames.length), Delta.EMPTY, areaNames, areaIds);
+            } else {
+                snapshot = new Snapshot(base, Delta.of(rows, dead), areaNames, areaIds);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private static String normalize(String area) {
+        return area == null ? UNKNOWN_AREA : area.trim();
+    }
+
+    private static int compare(int price, long id, int otherPrice, long otherId) {
+        int c = Integer.compare(price, otherPrice);
+        return c != 0 ? c : Long.compare(id, otherId);
+    }
+
+    // ** value >= key 인 첫 위치
+    private static int lowerBound(int[] values, int key) {
+        int lo = 0, hi = values.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (values[mid] < key) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    // ** value > key 인 첫 위치
+    private static int upperBound(int[] values, int key) {
+        int lo = 0, hi = values.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (values[mid] <= key) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    // ** 비트맵의 [from, to) 구간 비트 수
+    static int rangeCount(long[] words, int from, int to) {
+        if (from >= to) {
+            return 0;
+        }
+        int first = from >>> 6;
+        int last = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -to;
+        if (first == last) {
+            return Long.bitCount(words[first] & firstMask & lastMask);
+        }
+        int count = Long.bitCount(words[first] & firstMask);
+        for (int w = first + 1; w < last; w++) {
+            count += Long.bitCount(words[w]);
+        }
+        return count + Long.bitCount(words[last] & lastMask);
+    }
+
+    // ** 비트맵에서 from 이후 첫 번째 1 의 위치 (없으면 -1)
+    static int nextSetBit(long[] words, int from) {
+        int w = from >>> 6;
+        if (w >= words.length) {
+            return -1;
+        }
+        long word = words[w] & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                return (w << 6) + Long.numberOfTrailingZeros(word);
+            }
+            if (++w == words.length) {
+                return -1;
+            }
+            word = words[w];
+        }
+    }
+
+    // ** 정렬용 임시 행
+    private static class Row implements Comparable<Row> {
+        private final long id;
+        private final int price;
+        private final int area;
+
+        private Row(long id, int price, int area) {
+            this.id = id;
+            this.price = price;
+            this.area = area;
+        }
+
+        @Override
+        public int compareTo(Row o) {
+            return compare(price, id, o.price, o.id);
+        }
+    }
+
+    // ** 반영할 변경 한 건
+    private static class Change {
+        private final long id;
+        private final String area;
+        private final int price;
+        private final boolean deleted;
+
+        private Change(long id, String area, int price, boolean deleted) {
+            this.id = id;
+            this.area = area;
+            this.price = price;
+            this.deleted = deleted;
+        }
+    }
+
+    // ** 불변 스냅샷 - 본 배열 + 변경분 + 지역 사전
+    private static class Snapshot {
+        private static final Snapshot EMPTY = new Snapshot(Base.of(new Row[0], 0), Delta.EMPTY, new String[0], new HashMap<>());
+
+        private final Base base;
+        private final Delta delta;
+        private final String[] areaNames;
+        private final Map<String, Integer> areaIds;
+
+        private Snapshot(Base base, Delta delta, String[] areaNames, Map<String, Integer> areaIds) {
+            this.base = base;
+            this.delta = delta;
+            this.areaNames = areaNames;
+            this.areaIds = areaIds;
+        }
+
+        // ** 지역 조건 (조건이 없으면 null)
+        private boolean[] select(Collection<String> areas) {
+            if (areas == null || areas.isEmpty()) {
+                return null;
+            }
+            boolean[] selected = new boolean[areaNames.length];
+            for (String area : areas) {
+                Integer areaId = areaIds.get(normalize(area));
+                if (areaId != null) {
+                    selected[areaId] = true;
+                }
+            }
+            return selected;
+        }
+    }
+
+    // ** 불변 본 배열 - (price, id) 순 컬럼 + 지역별 비트맵 + id -> 위치 해시
+    private static class Base {
+        private final long[] ids;
+        private final int[] prices;
+        private final int[] areas;
+
+        // ** areaWords[area] 의 i 번째 비트 = i 번째 행이 그 지역
+        private final long[][] areaWords;
+
+        // ** id -> 위치 (선형 탐사 해시, 빈 칸은 -1)
+        private final long[] slotIds;
+        private final int[] slotPositions;
+
+        private Base(long[] ids, int[] prices, int[] areas, int areaCount) {
+            this.ids = ids;
+            this.prices = prices;
+            this.areas = areas;
+
+            int words = (ids.length + 63) >>> 6;
+            this.areaWords = new long[areaCount][words];
+            for (int i = 0; i < areas.length; i++) {
+                areaWords[areas[i]][i >>> 6] |= 1L << i;
+            }
+
+            int capacity = Integer.highestOneBit(Math.max(ids.length, 1) * 2 - 1) << 1;
+            this.slotIds = new long[capacity];
+            this.slotPositions = new int[capacity];
+            Arrays.fill(slotPositions, -1);
+            for (int i = 0; i < ids.length; i++) {
+                int slot = slot(ids[i]);
+                while (slotPositions[slot] >= 0) {
+                    slot = (slot + 1) & (capacity - 1);
+                }
+                slotIds[slot] = ids[i];
+                slotPositions[slot] = i;
+            }
+        }
+
+        private static Base of(Row[] sorted, int areaCount) {
+            long[] ids = new long[sorted.length];
+            int[] prices = new int[sorted.length];
+            int[] areas = new int[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                ids[i] = sorted[i].id;
+                prices[i] = sorted[i].price;
+                areas[i] = sorted[i].area;
+            }
+            return new Base(ids, prices, areas, areaCount);
+        }
+
+        // ** 삭제된 위치를 빼고 추가 행(정렬됨)을 순서대로 합친 새 본 배열
+        private Base merge(Set<Integer> dead, Row[] added, int areaCount) {
+            int n = ids.length - dead.size() + added.length;
+            long[] mergedIds = new long[n];
+            int[] mergedPrices = new int[n];
+            int[] mergedAreas = new int[n];
+            int i = 0, j = 0, k = 0;
+            while (k < n) {
+                if (i < ids.length && dead.contains(i)) {
+                    i++;
+                    continue;
+                }
+                boolean fromBase = j >= added.length
+                        || (i < ids.length && compare(prices[i], ids[i], added[j].price, added[j].id) < 0);
+                if (fromBase) {
+                    mergedIds[k] = ids[i];
+                    mergedPrices[k] = prices[i];
+                    mergedAreas[k] = areas[i];
+                    i++;
+                } else {
+                    mergedIds[k] = added[j].id;
+                    mergedPrices[k] = added[j].price;
+                    mergedAreas[k] = added[j].area;
+                    j++;
+                }
+                k++;
+            }
+            return new Base(mergedIds, mergedPrices, mergedAreas, areaCount);
+        }
+
+        // ** id 의 위치 (없으면 -1)
+        private int position(long id) {
+            int slot = slot(id);
+            while (slotPositions[slot] >= 0) {
+                if (slotIds[slot] == id) {
+                    return slotPositions[slot];
+                }
+                slot = (slot + 1) & (slotIds.length - 1);
+            }
+            return -1;
+        }
+
+        private int slot(long id) {
+            long h = id * 0x9E3779B97F4A7C15L;
+            return (int) (h >>> 32) & (slotIds.length - 1);
+        }
+
+        // ** 선택된 지역 비트맵의 OR (범위 [from, to) 에 해당하는 word 만)
+        private long[] mask(boolean[] selected, int from, int to) {
+            long[] mask = new long[(ids.length + 63) >>> 6];
+            if (from >= to) {
+                return mask;
+            }
+            int first = from >>> 6;
+            int last = (to - 1) >>> 6;
+            for (int a = 0; a < areaWords.length; a++) {
+                if (!selected[a]) {
+                    continue;
+                }
+                long[] words = areaWords[a];
+                for (int w = first; w <= last; w++) {
+                    mask[w] |= words[w];
+                }
+            }
+            return mask;
+        }
+
+        // ** from 이후 조건에 맞고 삭제되지 않은 첫 위치 (없으면 to)
+        private int next(long[] mask, int[] dead, int from, int to) {
+            int i = from;
+            while (i < to) {
+                if (mask != null) {
+                    i = nextSetBit(mask, i);
+                    if (i < 0 || i >= to) {
+                        return to;
+                    }
+                }
+                if (Arrays.binarySearch(dead, i) < 0) {
+                    return i;
+                }
+                i++;
+            }
+            return to;
+        }
+    }
+
+    // ** 불변 변경분 - 추가 행 ((price, id) 순) + 삭제된 본 배열 위치 (오름차순)
+    private static class Delta {
+        private static final Delta EMPTY = new Delta(new long[0], new int[0], new int[0], new int[0]);
+
+        private final long[] ids;
+        private final int[] prices;
+        private final int[] areas;
+        private final int[] dead;
+
+        private Delta(long[] ids, int[] prices, int[] areas, int[] dead) {
+            this.ids = ids;
+            this.prices = prices;
+            this.areas = areas;
+            this.dead = dead;
+        }
+
+        private static Delta of(Row[] sorted, Set<Integer> dead) {
+            long[] ids = new long[sorted.length];
+            int[] prices = new int[sorted.length];
+            int[] areas = new int[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                ids[i] = sorted[i].id;
+                prices[i] = sorted[i].price;
+                areas[i] = sorted[i].area;
+            }
+            int[] deadPositions = new int[dead.size()];
+            int k = 0;
+            for (int pos : dead) {
+                deadPositions[k++] = pos;
+            }
+            return new Delta(ids, prices, areas, deadPositions);
+        }
+
+        // ** 수정용 복사본 (id -> 행)
+        private Map<Long, Row> rows() {
+            Map<Long, Row> rows = new LinkedHashMap<>();
+            for (int i = 0; i < ids.length; i++) {
+                rows.put(ids[i], new Row(ids[i], prices[i], areas[i]));
+            }
+            return rows;
+        }
+
+        private TreeSet<Integer> deadSet() {
+            TreeSet<Integer> set = new TreeSet<>();
+            for (int pos : dead) {
+                set.add(pos);
+            }
+            return set;
+        }
+
+        // ** from 이후 지역 조건에 맞는 첫 위치 (없으면 to)
+        private int next(boolean[] selected, int from, int to) {
+            int i = from;
+            while (i < to && selected != null && !selected[areas[i]]) {
+                i++;
+            }
+            return i;
+        }
+    }
+}
@@ -0,0 +1,571 @@
+package com.example.pet.petsitter;
+
+import com.example.pet.core.error.exception.Exception400;
+import com.example.pet.core.error.exception.Exception404;
+import com.example.pet.core.error.exception.Exception500;
+import com.example.pet.core.error.exception.Exception503;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.JDBCConnectionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 펫시터 등록 지연 저장(write-behind) 모드 (petsitter.ingest.enabled=true)
+ * - 등록 요청은 검증 후 로컬 파일(한 줄에 한 건, 추가만 함)에 기록하고 fsync 한 뒤 추적 id 로 바로 응답(202)
+ * - fsync 는 그룹 커밋 - 파일 추가만 lock 안에서 하고, fsync 는 syncLock 을 잡은 요청 하나가
+ *   그때까지 추가된 기록 전체에 대해 한 번 실행 (기다리던 요청들은 그 fsync 로 함께 응답)
+ * - 전용 writer 스레드 하나가 대기열을 batch-size 개씩 모아 PetSitterBulkService.saveIngested 로 저장
+ * - 저장이 끝난 위치까지 checkpoint 파일에 기록하고, 재시작 시 checkpoint 이후의 기록을 다시 대기열에 넣음
+ * - 처리되지 않은 건수가 capacity 에 도달하면 503 + Retry-After
+ * - 모두 저장된 채로 쉬면 파일을 비우고, 저장이 계속 이어져도 checkpoint 가 compact-bytes 를 넘으면
+ *   checkpoint 이후 기록만 새 파일로 복사해 교체 (파일이 끝없이 커지지 않도록)
+ * - 추적 id 를 펫시터 행(유일 컬럼)에 함께 저장 - 저장 커밋 후 checkpoint 기록 전에 프로세스가 죽어
+ *   재시작 시 같은 batch 를 다시 처리해도, 이미 저장된 추적 id 는 건너뛰고 기존 id 로 SAVED 처리
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "petsitter.ingest.enabled", havingValue = "true")
+public class PetSitterIngestQueue implements MeterBinder {
+    private static final String JOURNAL = "journal.ndjson";
+    private static final String CHECKPOINT = "checkpoint";
+    private static final String COMPACTING = "journal.ndjson.tmp";
+    private static final byte NEW_LINE = '\n';
+
+    private final PetSitterBulkService bulkService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final Path directory;
+    private final int capacity;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final long retryBackoffMs;
+    private final long retryAfterSeconds;
+    private final long compactBytes;
+
+    // ** 파일 추가 / 대기열 등록 / 파일 비우기를 직렬화 (synchronized 대신 ReentrantLock)
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // ** fsync 직렬화 - fsync 중에도 다른 요청은 lock 으로 계속 추가할 수 있음
+    private final ReentrantLock syncLock = new ReentrantLock();
+
+    // ** 지금까지 추가한 누적 바이트 수 (lock 안에서 증가) / fsync 가 끝난 누적 바이트 수 (syncLock 으로 보호)
+    // 파일을 비워도 줄어들지 않음
+    private volatile long appended;
+    private long synced;
+
+    private final BlockingQueue<Entry> queue = new LinkedBlockingQueue<>();
+
+    // ** 기록했지만 아직 DB 저장(또는 실패 처리)이 끝나지 않은 건수
+    private final AtomicInteger pending = new AtomicInteger();
+
+    // ** 추적 id -> 처리 상태
+    private final Cache<String, PetSitterResponse.IngestStatusDTO> statuses;
+
+    // ** FileChannel 은 작업 중인 스레드가 인터럽트되면 닫혀 버리므로 RandomAccessFile 사용 (lock 으로 보호)
+    private RandomAccessFile journal;
+
+    // ** 파일 끝 위치 (lock 으로 보호)
+    private long size;
+
+    // ** 저장이 끝난 위치 (writer 스레드, 비우기는 lock 안에서만 변경)
+    private volatile long checkpoint;
+
+    // ** 파일 앞에서 잘라낸 누적 바이트 수 (writer 스레드가 lock 안에서만 변경)
+    // 대기열 항목의 endOffset 은 dropped + 파일 위치 - 잘라낸 뒤에도 파일 위치는 endOffset - dropped
+    private volatile long dropped;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public PetSitterIngestQueue(PetSitterBulkService bulkService,
+                                ObjectMapper objectMapper,
+                                Validator validator,
+                                @Value("${petsitter.ingest.path:./ingest}") String path,
+                                @Value("${petsitter.ingest.capacity:10000}") int capacity,
+                                @Value("${petsitter.ingest.batch-size:500}") int batchSize,
+                                @Value("${petsitter.ingest.linger-ms:50}") long lingerMs,
+                                @Value("${petsitter.ingest.retry-backoff-ms:1000}") long retryBackoffMs,
+                                @Value("${petsitter.ingest.retry-after-seconds:1}") long retryAfterSeconds,
+                                @Value("${petsitter.ingest.compact-bytes:67108864}") long compactBytes,
+                                @Value("${petsitter.ingest.status-ttl-seconds:3600}") long statusTtlSeconds,
+                                @Value("${petsitter.ingest.status-maximum-size:100000}") long statusMaximumSize) {
+        this.bulkService = bulkService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.directory = Paths.get(path);
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMs);
+        this.retryBackoffMs = retryBackoffMs;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.compactBytes = compactBytes;
+        this.statuses = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(statusTtlSeconds))
+                .maximumSize(statusMaximumSize)
+                .build();
+    }
+
+    // ** 재시작 시 checkpoint 이후 기록을 다시 대기열에 넣고 writer 시작
+    @PostConstruct
+    public void init() throws IOException {
+        Files.createDirectories(directory);
+        Files.deleteIfExists(directory.resolve(COMPACTING));
+        journal = new RandomAccessFile(directory.resolve(JOURNAL).toFile(), "rw");
+        checkpoint = readCheckpoint();
+        size = replay();
+        appended = size;
+        synced = size;
+
+        running = true;
+        writer = new Thread(this::runWriter, "petsitter-ingest-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    // ** 기록되지 않은 건은 재시작 시 다시 처리되므로 writer 만 멈추고 파일을 닫음
+    @PreDestroy
+    public void close() throws IOException, InterruptedException {
+        running = false;
+        if (writer != null) {
+            writer.interrupt();
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        journal.close();
+    }
+
+    // ** 검증 후 파일에 기록(fsync)하고 대기열에 등록
+    public PetSitterResponse.IngestStatusDTO accept(PetSitterResponse.FindAllDTO dto) {
+        String invalid = validate(dto);
+        if (invalid != null) {
+            throw new Exception400(invalid);
+        }
+
+        String trackingId = UUID.randomUUID().toString();
+        byte[] line = serialize(new Record(trackingId, dto));
+        PetSitterResponse.IngestStatusDTO status = PetSitterResponse.IngestStatusDTO.queued(trackingId);
+
+        // ** 파일 끝에 추가하고 (fsync 없이) 파일 순서대로 대기열에 등록
+        long written;
+        lock.lock();
+        try {
+            if (pending.get() >= capacity) {
+                throw new Exception503("등록 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+            }
+            try {
+                journal.seek(size);
+                journal.write(line);
+            } catch (IOException e) {
+                // ** 일부만 기록되었을 수 있으므로 기록 전 위치로 되돌림
+                truncateQuietly(size);
+                throw new Exception500("등록 요청을 기록하지 못했습니다.");
+            }
+            size += line.length;
+            written = appended + line.length;
+            appended = written;
+            pending.incrementAndGet();
+            statuses.put(trackingId, status);
+            queue.add(new Entry(trackingId, dto, dropped + size));
+        } finally {
+            lock.unlock();
+        }
+
+        // ** 이 기록까지 fsync 된 뒤에 응답
+        awaitSync(written);
+        return status;
+    }
+
+    // ** 그룹 커밋 - 앞선 fsync 가 이 기록을 포함했으면 바로 반환, 아니면 지금까지 추가된 전체를 한 번 fsync
+    // (fsync 가 실패하면 500 이지만 기록은 이미 대기열에 있으므로 저장될 수 있음 - 클라이언트 재시도 시 중복 가능)
+    private void awaitSync(long written) {
+        syncLock.lock();
+        try {
+            if (synced >= written) {
+                return;
+            }
+            long target = appended;
+            journal.getFD().sync();
+            synced = target;
+        } catch (IOException e) {
+            log.error("펫시터 지연 저장 fsync 실패 : {}", e.getMessage());
+            throw new Exception500("등록 요청을 기록하지 못했습니다.");
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    public PetSitterResponse.IngestStatusDTO status(String trackingId) {
+        PetSitterResponse.IngestStatusDTO status = statuses.getIfPresent(trackingId);
+        if (status == null) {
+            throw new Exception404("추적 id 를 찾을 수 없습니다. : " + trackingId);
+        }
+        return status;
+    }
+
+    public int pending() {
+        return pending.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("petsitter.ingest.pending", pending, AtomicInteger::get)
+                .register(registry);
+    }
+
+    private void runWriter() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                // ** 직전 batch 가 예기치 않은 오류로 끝나지 않았으면 같은 batch 를 다시 처리
+                if (batch.isEmpty() && !fill(batch)) {
+                    compact();
+                    continue;
+                }
+                write(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("펫시터 지연 저장 writer 오류 : {}", e.getMessage(), e);
+                try {
+                    Thread.sleep(retryBackoffMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    // ** 첫 건을 최대 1초 기다리고, linger 동안 batch-size 까지 더 모음 (없으면 false)
+    private boolean fill(List<Entry> batch) throws InterruptedException {
+        Entry first = queue.poll(1, TimeUnit.SECONDS);
+        if (first == null) {
+            return false;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + lingerNanos;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() == batchSize || remaining <= 0) {
+                break;
+            }
+            Entry next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return true;
+    }
+
+    // ** 저장(또는 실패 처리)이 끝난 뒤 checkpoint 를 batch 끝으로 옮김
+    private void write(List<Entry> batch) throws InterruptedException {
+        persist(batch);
+        writeCheckpoint(batch.get(batch.size() - 1).endOffset - dropped);
+        pending.addAndGet(-batch.size());
+        if (checkpoint >= compactBytes) {
+            compactSaved();
+        }
+    }
+
+    // ** DB 장애처럼 일시적인 오류는 같은 묶음을 다시 시도하고,
+    // 그 외 오류는 한 건씩 저장해 문제 행만 실패 처리
+    private void persist(List<Entry> entries) throws InterruptedException {
+        while (true) {
+            try {
+                saved(entries, bulkService.saveIngested(trackingIds(entries), dtos(entries)));
+                return;
+            } catch (RuntimeException e) {
+                if (isTransient(e)) {
+                    log.warn("펫시터 지연 저장 재시도 ({}건) : {}", entries.size(), e.getMessage());
+                    Thread.sleep(retryBackoffMs);
+                    continue;
+                }
+                if (entries.size() == 1) {
+                    failed(entries.get(0), e);
+                    return;
+                }
+                for (Entry entry : entries) {
+                    persist(Collections.singletonList(entry));
+                }
+                return;
+            }
+        }
+    }
+
+    private void saved(List<Entry> batch, List<Long> ids) {
+        for (int i = 0; i < batch.size(); i++) {
+            String trackingId = batch.get(i).trackingId;
+            statuses.put(trackingId, PetSitterResponse.IngestStatusDTO.saved(trackingId, ids.get(i)));
+        }
+    }
+
+    private void failed(Entry entry, RuntimeException e) {
+        log.warn("펫시터 지연 저장 실패 ({}) : {}", entry.trackingId, e.getMessage());
+        statuses.put(entry.trackingId,
+                PetSitterResponse.IngestStatusDTO.failed(entry.trackingId, "저장 중 오류가 발생했습니다."));
+    }
+
+    // ** 모두 저장되었으면 파일을 비움 (lock 안에서는 새 기록이 끼어들지 않음)
+    private void compact() {
+        lock.lock();
+        try {
+            if (pending.get() == 0 && size > 0 && checkpoint == size) {
+                journal.setLength(0);
+                size = 0;
+                writeCheckpoint(0);
+            }
+        } catch (IOException e) {
+            log.warn("펫시터 지연 저장 파일 정리 실패 : {}", e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ** checkpoint 이전(저장 끝난 부분)을 잘라냄 - checkpoint 이후 기록을 임시 파일에 복사, fsync 후 교체
+    // 새 기록 추가(lock)와 fsync(syncLock)를 모두 막고 진행하며, 복사본을 fsync 하므로 그때까지의 추가분도 fsync 된 것으로 처리
+    // checkpoint 를 0 으로 먼저 기록 - 교체 전에 종료되면 이전 파일 전체를 다시 읽지만 저장된 건은 추적 id 로 걸러짐
+    // (교체 후 checkpoint 기록 전에 종료되면 새 파일에 이전 위치가 적용되어 저장 안 된 기록을 건너뛰게 됨)
+    private void compactSaved() {
+        lock.lock();
+        syncLock.lock();
+        Path temp = directory.resolve(COMPACTING);
+        try {
+            long from = checkpoint;
+            long length = size - from;
+            try (RandomAccessFile copy = new RandomAccessFile(temp.toFile(), "rw")) {
+                copy.setLength(0);
+                journal.seek(from);
+                byte[] buffer = new byte[65536];
+                long remaining = length;
+                while (remaining > 0) {
+                    int read = journal.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                    if (read < 0) {
+                        throw new IOException("파일이 예상보다 짧습니다.");
+                    }
+                    copy.write(buffer, 0, read);
+                    remaining -= read;
+                }
+                copy.getFD().sync();
+            }
+
+            writeCheckpoint(0);
+            if (checkpoint != 0) {
+                return;
+            }
+            journal.close();
+            try {
+                Files.move(temp, directory.resolve(JOURNAL),
+                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                // ** 교체에 실패했으면 이전 파일을 다시 엶
+                journal = new RandomAccessFile(directory.resolve(JOURNAL).toFile(), "rw");
+            }
+            dropped += from;
+            size = length;
+            synced = appended;
+            log.info("펫시터 지연 저장 파일 정리 : {}바이트 제거, {}바이트 남음", from, length);
+        } catch (IOException e) {
+            // ** 교체 전 실패면 이전 파일 그대로 계속 사용 (checkpoint 가 0 이 되었으면 다음 batch 에서 다시 옮겨짐)
+            log.warn("펫시터 지연 저장 파일 정리 실패 : {}", e.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException ignored) {
+                // 임시 파일 정리 실패는 무시
+            }
+            syncLock.unlock();
+            lock.unlock();
+        }
+    }
+
+    // ** checkpoint 이후의 완전한 줄을 대기열에 넣고, 마지막에 잘린 줄(기록 중 종료)은 잘라냄
+    private long replay() throws IOException {
+        long offset = checkpoint;
+        int replayed = 0;
+        journal.seek(offset);
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = journal.read(buffer)) > 0) {
+            for (int i = 0; i < read; i++) {
+                if (buffer[i] != NEW_LINE) {
+                    line.write(buffer[i]);
+                    continue;
+                }
+                offset += line.size() + 1;
+                try {
+                    Record record = objectMapper.readValue(line.toByteArray(), Record.class);
+                    statuses.put(record.getTrackingId(),
+                            PetSitterResponse.IngestStatusDTO.queued(record.getTrackingId()));
+                    queue.add(new Entry(record.getTrackingId(), record.getPetSitter(), offset));
+                    replayed++;
+                } catch (IOException e) {
+                    log.warn("펫시터 지연 저장 - 읽을 수 없는 기록 건너뜀 (위치 {}) : {}", offset, e.getMessage());
+                }
+                line.reset();
+            }
+        }
+        if (line.size() > 0) {
+            log.warn("펫시터 지연 저장 파일 끝의 불완전한 기록 {}바이트 제거", line.size());
+            journal.setLength(offset);
+        }
+        pending.set(replayed);
+        if (replayed > 0) {
+            log.info("펫시터 지연 저장 재처리 : {}건", replayed);
+        }
+        return offset;
+    }
+
+    private long readCheckpoint() throws IOException {
+        Path path = directory.resolve(CHECKPOINT);
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        String value = new String(Files.readAllBytes(path), StandardCharsets.US_ASCII).trim();
+        return value.isEmpty() ? 0 : Long.parseLong(value);
+    }
+
+    // ** 임시 파일에 쓰고 교체해서 checkpoint 파일이 깨지지 않도록 함
+    private void writeCheckpoint(long offset) {
+        Path temp = directory.resolve(CHECKPOINT + ".tmp");
+        try {
+            Files.write(temp, Long.toString(offset).getBytes(StandardCharsets.US_ASCII));
+            Files.move(temp, directory.resolve(CHECKPOINT),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            checkpoint = offset;
+        } catch (IOException e) {
+            // ** checkpoint 가 뒤처지면 재시작 시 이미 저장된 건을 다시 읽지만, 추적 id 로 걸러져 중복 저장되지 않음
+            log.error("펫시터 지연 저장 checkpoint 기록 실패 : {}", e.getMessage());
+        }
+    }
+
+    private void truncateQuietly(long offset) {
+        try {
+            journal.setLength(offset);
+        } catch (IOException e) {
+            log.error("펫시터 지연 저장 파일 복구 실패 : {}", e.getMessage());
+        }
+    }
+
+    private byte[] serialize(Record record) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(record);
+            byte[] line = new byte[json.length + 1];
+            System.arraycopy(json, 0, line, 0, json.length);
+            line[json.length] = NEW_LINE;
+            return line;
+        } catch (IOException e) {
+            throw new Exception400("잘못된 등록 요청입니다.");
+        }
+    }
+
+    private String validate(PetSitterResponse.FindAllDTO dto) {
+        if (dto == null) {
+            return "빈 요청입니다.";
+        }
+        Set<ConstraintViolation<PetSitterResponse.FindAllDTO>> violations = validator.validate(dto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        ConstraintViolation<PetSitterResponse.FindAllDTO> violation = violations.iterator().next();
+        return violation.getMessage() + ":" + violation.getPropertyPath();
+    }
+
+    private static List<String> trackingIds(List<Entry> batch) {
+        List<String> trackingIds = new ArrayList<>(batch.size());
+        for (Entry entry : batch) {
+            trackingIds.add(entry.trackingId);
+        }
+        return trackingIds;
+    }
+
+    private static List<PetSitterResponse.FindAllDTO> dtos(List<Entry> batch) {
+        List<PetSitterResponse.FindAllDTO> dtos = new ArrayList<>(batch.size());
+        for (Entry entry : batch) {
+            dtos.add(entry.dto);
+        }
+        return dtos;
+    }
+
+    private static boolean isTransient(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof TransientDataAccessException
+                    || t instanceof RecoverableDataAccessException
+                    || t instanceof DataAccessResourceFailureException
+                    || t instanceof CannotCreateTransactionException
+                    || t instanceof JDBCConnectionException
+                    || t instanceof SQLTransientException
+                    || t instanceof SQLRecoverableException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ** 파일에 기록되는 한 줄
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class Record {
+        private String trackingId;
+
+        private PetSitterResponse.FindAllDTO petSitter;
+    }
+
+    // ** 대기열 항목 - endOffset 은 이 기록이 끝나는 파일 위치 (저장 후 checkpoint 값)
+    private static final class Entry {
+        private final String trackingId;
+        private final PetSitterResponse.FindAllDTO dto;
+        private final long endOffset;
+
+        Entry(String trackingId, PetSitterResponse.FindAllDTO dto, long endOffset) {
+            this.trackingId = trackingId;
+            this.dto = dto;
+            this.endOffset = endOffset;
+        }
+    }
+}
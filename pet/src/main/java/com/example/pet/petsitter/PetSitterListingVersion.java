@@ -0,0 +1,34 @@
+package com.example.pet.petsitter;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.time.Instant;
+
+// ** 목록 조건부 GET 용 버전 (한 행)
+// 펫시터가 바뀌는 트랜잭션 안에서 커밋 직전에 1 증가하므로 삭제가 있어도 값이 되돌아가지 않음
+@NoArgsConstructor
+@Getter
+@Entity
+public class PetSitterListingVersion {
+    public static final Long ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Long version;
+
+    // ** 마지막 변경 시각 (Last-Modified)
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    public PetSitterListingVersion(Long id, Long version, Instant updatedAt) {
+        this.id = id;
+        this.version = version;
+        this.updatedAt = updatedAt;
+    }
+}
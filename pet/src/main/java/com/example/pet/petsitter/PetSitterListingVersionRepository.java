@@ -0,0 +1,24 @@
+package com.example.pet.petsitter;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface PetSitterListingVersionRepository extends JpaRepository<PetSitterListingVersion, Long> {
+
+    // ** 목록 조건부 GET 용 - PK 로 (version, updatedAt) 만 조회
+    @Query("select new com.example.pet.petsitter.PetSitterVersion(v.version, v.updatedAt) " +
+            "from PetSitterListingVersion v where v.id = 1")
+    Optional<PetSitterVersion> findVersion();
+
+    // ** 현재 트랜잭션 안에서 1 증가
+    @Transactional
+    @Modifying
+    @Query("update PetSitterListingVersion v set v.version = v.version + 1, v.updatedAt = :now where v.id = 1")
+    int increment(@Param("now") Instant now);
+}
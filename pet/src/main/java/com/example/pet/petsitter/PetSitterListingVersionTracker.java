@@ -0,0 +1,64 @@
+package com.example.pet.petsitter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PostConstruct;
+import java.time.Instant;
+
+/**
+ * 목록 버전 관리
+ * - 변경 이벤트를 커밋 직전(BEFORE_COMMIT)에 받아 같은 트랜잭션에서 버전 행을 1 증가
+ *   (행 잠금은 커밋 동안만 잡힘, 여러 노드가 같은 값을 봄)
+ * - 목록 요청은 이 행을 PK 로 한 번만 읽어 ETag / Last-Modified 를 만든다.
+ * - 올라간 버전을 이벤트에 기록해 두면, 집계 보정이 DB 조회에 이미 포함된 변경인지 구분할 수 있다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PetSitterListingVersionTracker {
+    private final PetSitterListingVersionRepository repository;
+
+    // ** 버전 행이 없으면 생성 (운영은 Flyway V3 에서 생성됨)
+    @PostConstruct
+    public void init() {
+        if (repository.existsById(PetSitterListingVersion.ID)) {
+            return;
+        }
+        try {
+            repository.save(new PetSitterListingVersion(PetSitterListingVersion.ID, 0L, Instant.now()));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("목록 버전 행은 다른 노드가 이미 생성함");
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onChanged(PetSitterChangedEvent event) {
+        event.setListingVersion(increment());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onBatchChanged(PetSitterBatchChangedEvent event) {
+        event.setListingVersion(increment());
+    }
+
+    public PetSitterVersion current() {
+        return repository.findVersion()
+                .orElseGet(() -> new PetSitterVersion(0L, null));
+    }
+
+    // ** 행 잠금을 잡은 상태에서 다시 읽으므로 커밋 순서대로 증가한 값을 돌려줌 (행이 없으면 0)
+    private long increment() {
+        if (repository.increment(Instant.now()) == 0) {
+            log.warn("목록 버전 행이 없어 증가하지 못함");
+            return 0;
+        }
+        return repository.findVersion()
+                .map(PetSitterVersion::getVersion)
+                .orElse(0L);
+    }
+}
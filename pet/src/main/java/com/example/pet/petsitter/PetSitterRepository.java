@@ -1,7 +1,50 @@
 package com.example.pet.petsitter;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface PetSitterRepository extends JpaRepository<PetSitter, Long> {
 
+    // ** 목록 첫 페이지 - 엔티티 대신 요약 DTO 로 바로 조회 (설명은 100자까지만)
+    @Query("select new com.example.pet.petsitter.PetSitterResponse$SummaryDTO(" +
+            "p.id, p.title, p.area, p.price, p.image, substring(p.description, 1, 100)) " +
+            "from PetSitter p order by p.price asc, p.id asc")
+    List<PetSitterResponse.SummaryDTO> findFirstPage(Pageable pageable);
+
+    // ** 커서 (price, id) 이후 페이지 - idx_pet_sitter_price_id 범위 스캔
+    @Query("select new com.example.pet.petsitter.PetSitterResponse$SummaryDTO(" +
+            "p.id, p.title, p.area, p.price, p.image, substring(p.description, 1, 100)) " +
+            "from PetSitter p " +
+            "where p.price >= :price and (p.price > :price or p.id > :id) " +
+            "order by p.price asc, p.id asc")
+    List<PetSitterResponse.SummaryDTO> findPageAfter(@Param("price") int price, @Param("id") Long id, Pageable pageable);
+
+    // ** 요약 정보 id 목록 조회 (검색 결과 상위 n개)
+    @Query("select new com.example.pet.petsitter.PetSitterResponse$SummaryDTO(" +
+            "p.id, p.title, p.area, p.price, p.image, substring(p.description, 1, 100)) " +
+            "from PetSitter p where p.id in :ids")
+    List<PetSitterResponse.SummaryDTO> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // ** 전문 검색 색인용 - (id, title, description) 을 id 순으로 나눠서 조회
+    @Query("select p.id, p.title, p.description from PetSitter p where p.id > :id order by p.id asc")
+    List<Object[]> findTextRowsAfter(@Param("id") Long id, Pageable pageable);
+
+    // ** 메모리 검색 인덱스 로딩용 - (id, area, price)
+    @Query("select p.id, p.area, p.price from PetSitter p")
+    List<Object[]> findAllFacetRows();
+
+    // ** 지역별 집계 보정용 - (area, price, 건수)
+    @Query("select p.area, p.price, count(p) from PetSitter p group by p.area, p.price")
+    List<Object[]> countByAreaAndPrice();
+
+    // ** 상세 조건부 GET 용 - PK 로 (version, updatedAt) 만 조회
+    @Query("select new com.example.pet.petsitter.PetSitterVersion(p.version, p.updatedAt) " +
+            "from PetSitter p where p.id = :id")
+    Optional<PetSitterVersion> findVersionById(@Param("id") Long id);
 }
@@ -1,10 +1,17 @@
 package com.example.pet.petsitter;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.PositiveOrZero;
+import javax.validation.constraints.Size;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 
@@ -17,17 +24,24 @@ public class PetSitterResponse {
         private Long id;
 
         // ** 상품명
+        @NotBlank(message = "제목은 필수입니다.")
+        @Size(max = 100, message = "제목은 100자 이내로 작성 가능합니다.")
         private String title;
 
         // ** 상품 설명
+        @NotBlank(message = "설명은 필수입니다.")
+        @Size(max = 500, message = "설명은 500자 이내로 작성 가능합니다.")
         private String description;
 
         // ** 이미지 정보
+        @Size(max = 100, message = "이미지 정보는 100자 이내로 작성 가능합니다.")
         private String image;
 
+        @Size(max = 255, message = "지역은 255자 이내로 작성 가능합니다.")
         private String area;
 
         // ** 가격
+        @PositiveOrZero(message = "가격은 0 이상이어야 합니다.")
         private int price;
 
         public FindAllDTO(PetSitter petSitter) {
@@ -50,6 +64,182 @@ public class PetSitterResponse {
                     .build();
         }
     }
+
+    // ** 상세 정보
+    @Getter
+    public static class DetailDTO {
+        private final Long id;
+
+        private final String title;
+
+        private final String description;
+
+        private final String image;
+
+        private final String area;
+
+        private final int price;
+
+        // ** 응답의 ETag 와 같은 값
+        private final Long version;
+
+        private final Instant updatedAt;
+
+        public DetailDTO(PetSitter petSitter) {
+            this.id = petSitter.getId();
+            this.title = petSitter.getTitle();
+            this.description = petSitter.getDescription();
+            this.image = petSitter.getImage();
+            this.area = petSitter.getArea();
+            this.price = petSitter.getPrice();
+            this.version = petSitter.getVersion();
+            this.updatedAt = petSitter.getUpdatedAt();
+        }
+    }
+
+    // ** 목록용 요약 정보 - JPQL 에서 엔티티를 거치지 않고 바로 생성됨
+    @Getter
+    @AllArgsConstructor
+    public static class SummaryDTO {
+        private final Long id;
+
+        private final String title;
+
+        private final String area;
+
+        private final int price;
+
+        private final String image;
+
+        // ** 앞부분만 잘라낸 설명
+        private final String description;
+    }
+
+    // ** 목록 한 페이지 + 다음 페이지 커서 (마지막 페이지면 null)
+    @Getter
+    @AllArgsConstructor
+    public static class PageDTO {
+        private final List<SummaryDTO> content;
+
+        private final String nextCursor;
+    }
+
+    // ** 지역/가격 검색 결과 한 건
+    @Getter
+    @AllArgsConstructor
+    public static class FacetHitDTO {
+        private final Long id;
+
+        private final String area;
+
+        private final int price;
+    }
+
+    // ** 지역/가격 검색 결과 + 가격 범위 안의 지역별 건수
+    @Getter
+    @AllArgsConstructor
+    public static class FacetDTO {
+        private final List<FacetHitDTO> hits;
+
+        private final int total;
+
+        private final Map<String, Integer> areaCounts;
+    }
+
+    // ** 전문 검색 결과 - 점수 순으로 정렬된 요약 정보
+    @Getter
+    @AllArgsConstructor
+    public static class SearchDTO {
+        private final String query;
+
+        private final List<SummaryDTO> content;
+    }
+
+    // ** 대량 등록 결과
+    @Getter
+    @AllArgsConstructor
+    public static class BulkResultDTO {
+        // ** 읽은 행 수
+        private final int total;
+
+        private final int saved;
+
+        private final int failed;
+
+        // ** 실패한 행 목록 (최대 PetSitterBulkService.MAX_REPORTED_ERRORS 개)
+        private final List<RowErrorDTO> errors;
+    }
+
+    // ** 대량 등록 실패 행 (row 는 1부터 시작)
+    @Getter
+    @AllArgsConstructor
+    public static class RowErrorDTO {
+        private final int row;
+
+        private final String message;
+    }
+
+    // ** 지연 저장 모드 등록 처리 상태 (QUEUED -> SAVED | FAILED)
+    @Getter
+    @AllArgsConstructor
+    public static class IngestStatusDTO {
+        public static final String QUEUED = "QUEUED";
+        public static final String SAVED = "SAVED";
+        public static final String FAILED = "FAILED";
+
+        private final String trackingId;
+
+        private final String status;
+
+        // ** 저장된 경우의 펫시터 id
+        private final Long petSitterId;
+
+        // ** 실패 사유
+        private final String message;
+
+        public static IngestStatusDTO queued(String trackingId) {
+            return new IngestStatusDTO(trackingId, QUEUED, null, null);
+        }
+
+        public static IngestStatusDTO saved(String trackingId, Long petSitterId) {
+            return new IngestStatusDTO(trackingId, SAVED, petSitterId, null);
+        }
+
+        public static IngestStatusDTO failed(String trackingId, String message) {
+            return new IngestStatusDTO(trackingId, FAILED, null, message);
+        }
+    }
+
+    // ** 지역별 가격 집계
+    @Getter
+    @AllArgsConstructor
+    public static class StatsDTO {
+        // ** 히스토그램 한 구간의 가격 폭
+        private final int bucketWidth;
+
+        private final List<AreaStatsDTO> areas;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class AreaStatsDTO {
+        private final String area;
+
+        private final long count;
+
+        private final int minPrice;
+
+        private final int maxPrice;
+
+        private final long averagePrice;
+
+        private final int medianPrice;
+
+        private final int p90Price;
+
+        // ** i 번째 값 = [i * bucketWidth, (i + 1) * bucketWidth) 가격의 건수 (마지막 구간은 그 이상 전부)
+        private final List<Long> histogram;
+    }
 //
 //    @NoArgsConstructor
 //    @Data
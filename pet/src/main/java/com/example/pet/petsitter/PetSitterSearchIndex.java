@@ -0,0 +1,501 @@
+package com.example.pet.petsitter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 펫시터 제목/설명 전문 검색용 메모리 역색인 (inverted index)
+ * - 토큰은 NGramTokenizer 의 2-gram / 3-gram
+ * - 포스팅 리스트는 (문서 번호 차이, 출현 횟수) 를 varint 로 압축한 byte[]
+ * - 점수는 BM25, 제목에서 나온 토큰은 가중치 2배
+ *
+ * 같은 펫시터가 다시 저장되면 이전 문서는 삭제 표시만 하고 새 문서를 추가한다.
+ * 삭제 표시된 문서가 COMPACT_RATIO 를 넘으면 포스팅 리스트에서 빼고 문서 번호를 다시 매긴다. (compact)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PetSitterSearchIndex {
+    // ** BM25 파라미터
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // ** 제목 토큰 가중치
+    private static final int TITLE_WEIGHT = 2;
+
+    // ** 전체 문서의 이 비율 이상에 나오는 토큰은 (다른 토큰이 있을 때) 점수 계산에서 제외
+    private static final double MAX_DF_RATIO = 0.3;
+
+    // ** 삭제 표시된 문서가 전체의 이 비율을 넘으면 (최소 COMPACT_MIN_DELETED 건) 색인 정리
+    private static final double COMPACT_RATIO = 0.2;
+    private static final int COMPACT_MIN_DELETED = 1000;
+
+    // ** 재색인 시 한 번에 읽어올 행 수
+    private static final int REBUILD_CHUNK = 1000;
+
+    private final PetSitterRepository petSitterRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Segment segment = new Segment();
+
+    // ** 시작 시 테이블에서 색인을 만든다.
+    @PostConstruct
+    public void rebuild() {
+        Segment fresh = new Segment();
+        Long lastId = 0L;
+        while (true) {
+            List<Object[]> rows = petSitterRepository.findTextRowsAfter(lastId, PageRequest.of(0, REBUILD_CHUNK));
+            for (Object[] row : rows) {
+                fresh.add((Long) row[0], (String) row[1], (String) row[2]);
+            }
+            if (rows.size() < REBUILD_CHUNK) {
+                break;
+            }
+            lastId = (Long) rows.get(rows.size() - 1)[0];
+        }
+
+        lock.writeLock().lock();
+        try {
+            segment = fresh;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("펫시터 전문 검색 색인 완료 : {}건, 토큰 {}개", fresh.liveCount, fresh.postings.size());
+    }
+
+    // ** 커밋된 변경만 반영
+    @TransactionalEventListener
+    public void onChanged(PetSitterChangedEvent event) {
+        apply(Collections.singletonList(event));
+    }
+
+    @TransactionalEventListener
+    public void onBatchChanged(PetSitterBatchChangedEvent event) {
+        apply(event.getChanges());
+    }
+
+    private void apply(List<PetSitterChangedEvent> events) {
+        lock.writeLock().lock();
+        try {
+            for (PetSitterChangedEvent event : events) {
+                PetSitter petSitter = event.getPetSitter();
+                segment.remove(petSitter.getId());
+                if (!event.isDeleted()) {
+                    segment.add(petSitter.getId(), petSitter.getTitle(), petSitter.getDescription());
+                }
+            }
+            if (segment.needsCompaction()) {
+                int before = segment.docCount;
+                segment = segment.compact();
+                log.debug("펫시터 전문 검색 색인 정리 : 문서 {} -> {}", before, segment.docCount);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ** 점수 순 상위 limit 개의 펫시터 id
+    public List<Long> search(String query, int limit) {
+        Map<String, Integer> terms = NGramTokenizer.tokenize(query);
+        if (terms.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        lock.readLock().lock();
+        try {
+            return segment.search(terms.keySet(), limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ** 색인된 문서 수 (삭제 표시 포함)
+    int documentCount() {
+        lock.readLock().lock();
+        try {
+            return segment.docCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ** 색인 데이터 (lock 으로 보호됨)
+    private static class Segment {
+        // ** 문서 번호 -> 펫시터 id, 문서 길이
+        private long[] sitterIds;
+        private int[] docLengths;
+        private int docCount;
+
+        // ** 펫시터 id -> 현재 문서 번호
+        private final Map<Long, Integer> liveDocs = new HashMap<>();
+        private final BitSet deleted = new BitSet();
+        private final Map<String, PostingList> postings = new HashMap<>();
+
+        private long totalLength;
+        private int liveCount;
+
+        private Segment() {
+            this(1024);
+        }
+
+        private Segment(int capacity) {
+            sitterIds = new long[Math.max(capacity, 16)];
+            docLengths = new int[Math.max(capacity, 16)];
+        }
+
+        private void add(Long sitterId, String title, String description) {
+            Map<String, Integer> terms = new HashMap<>();
+            NGramTokenizer.tokenize(title).forEach((term, tf) -> terms.merge(term, tf * TITLE_WEIGHT, Integer::sum));
+            NGramTokenizer.tokenize(description).forEach((term, tf) -> terms.merge(term, tf, Integer::sum));
+
+            int length = 0;
+            for (int tf : terms.values()) {
+                length += tf;
+            }
+
+            if (docCount == sitterIds.length) {
+                sitterIds = Arrays.copyOf(sitterIds, docCount * 2);
+                docLengths = Arrays.copyOf(docLengths, docCount * 2);
+            }
+            int doc = docCount++;
+            sitterIds[doc] = sitterId;
+            docLengths[doc] = length;
+
+            // ** 문서 번호가 증가 순으로만 추가되므로 포스팅 리스트는 항상 정렬 상태
+            for (Map.Entry<String, Integer> entry : terms.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), key -> new PostingList()).append(doc, entry.getValue());
+            }
+
+            liveDocs.put(sitterId, doc);
+            totalLength += length;
+            liveCount++;
+        }
+
+        private void remove(Long sitterId) {
+            Integer doc = liveDocs.remove(sitterId);
+            if (doc != null) {
+                deleted.set(doc);
+                totalLength -= docLengths[doc];
+                liveCount--;
+            }
+        }
+
+        // ** 삭제 표시된 문서가 많아지면 정리 (docFreq 에 남은 삭제 문서로 점수가 어긋나지 않도록)
+        private boolean needsCompaction() {
+            int dead = docCount - liveCount;
+            return dead >= COMPACT_MIN_DELETED && dead > docCount * COMPACT_RATIO;
+        }
+
+        // ** 삭제 표시된 문서를 뺀 새 색인 - 문서 번호를 순서대로 다시 매기므로 포스팅 리스트도 정렬 상태 유지
+        private Segment compact() {
+            Segment fresh = new Segment(liveCount);
+            int[] remap = new int[docCount];
+            for (int doc = 0; doc < docCount; doc++) {
+                if (deleted.get(doc)) {
+                    remap[doc] = -1;
+                    continue;
+                }
+                int next = fresh.docCount++;
+                remap[doc] = next;
+                fresh.sitterIds[next] = sitterIds[doc];
+                fresh.docLengths[next] = docLengths[doc];
+                fresh.liveDocs.put(sitterIds[doc], next);
+            }
+            fresh.liveCount = fresh.docCount;
+            fresh.totalLength = totalLength;
+
+            for (Map.Entry<String, PostingList> entry : postings.entrySet()) {
+                PostingList compacted = new PostingList();
+                entry.getValue().forEach((doc, tf) -> {
+                    if (remap[doc] >= 0) {
+                        compacted.append(remap[doc], tf);
+                    }
+                });
+                if (compacted.docFreq > 0) {
+                    fresh.postings.put(entry.getKey(), compacted);
+                }
+            }
+            return fresh;
+        }
+
+        /**
+         * 토큰 단위(term-at-a-time)로 BM25 점수를 누적한다.
+         * 희귀한 토큰부터 처리하고, 남은 토큰들의 최대 점수 합이 현재 limit 번째 점수보다 작아지면
+         * 아직 점수가 없는 문서는 상위 limit 에 들 수 없으므로 이후에는 기존 문서의 점수만 더한다.
+         */
+        private List<Long> search(Iterable<String> queryTerms, int limit) {
+            if (liveCount == 0) {
+                return new ArrayList<>();
+            }
+
+            // ** 희귀한 토큰부터 처리
+            List<PostingList> lists = new ArrayList<>();
+            for (String term : queryTerms) {
+                PostingList list = postings.get(term);
+                if (list != null) {
+                    lists.add(list);
+                }
+            }
+            lists.sort(Comparator.comparingInt(list -> list.docFreq));
+
+            // ** 너무 흔한 토큰은 (다른 토큰이 있을 때) 제외
+            int maxDf = (int) (liveCount * MAX_DF_RATIO);
+            int used = 0;
+            int expected = 0;
+            while (used < lists.size() && (used == 0 || lists.get(used).docFreq <= maxDf)) {
+                expected += lists.get(used).docFreq;
+                used++;
+            }
+
+            // ** 토큰별 idf 와, i 번째 이후 토큰들로 얻을 수 있는 최대 점수 합
+            // (tf / (tf + norm) < 1 이므로 한 토큰의 점수는 idf * (K1 + 1) 보다 작음)
+            double[] idf = new double[used];
+            double[] remaining = new double[used + 1];
+            for (int i = used - 1; i >= 0; i--) {
+                int df = Math.min(lists.get(i).docFreq, liveCount);
+                idf[i] = Math.log(1 + (liveCount - df + 0.5) / (df + 0.5));
+                remaining[i] = remaining[i + 1] + idf[i] * (K1 + 1);
+            }
+
+            double avgLength = (double) totalLength / liveCount;
+            ScoreTable scores = new ScoreTable(Math.min(expected, docCount));
+            boolean insert = true;
+            for (int i = 0; i < used; i++) {
+                if (insert && i > 0 && scores.size >= limit && remaining[i] < scores.top(limit).minScore()) {
+                    insert = false;
+                }
+
+                double termIdf = idf[i];
+                boolean addNew = insert;
+                lists.get(i).forEach((doc, tf) -> {
+                    if (deleted.get(doc)) {
+                        return;
+                    }
+                    double norm = K1 * (1 - B + B * docLengths[doc] / avgLength);
+                    scores.add(doc, termIdf * tf * (K1 + 1) / (tf + norm), addNew);
+                });
+            }
+
+            TopDocs top = scores.top(limit);
+            List<Long> result = new ArrayList<>(top.size);
+            for (int doc : top.sortedDocs()) {
+                result.add(sitterIds[doc]);
+            }
+            return result;
+        }
+    }
+
+    // ** 문서 번호 -> 누적 점수 (선형 탐사 해시, boxing 없음)
+    private static final class ScoreTable {
+        private int[] docs;
+        private double[] values;
+        private int size;
+
+        private ScoreTable(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(expected, 8) * 2 - 1) << 1;
+            docs = new int[capacity];
+            values = new double[capacity];
+            Arrays.fill(docs, -1);
+        }
+
+        // ** insert 가 false 면 이미 점수가 있는 문서만 더함
+        private void add(int doc, double score, boolean insert) {
+            int mask = docs.length - 1;
+            int slot = (doc * 0x9E3779B9) >>> 1 & mask;
+            while (docs[slot] >= 0) {
+                if (docs[slot] == doc) {
+                    values[slot] += score;
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            if (!insert) {
+                return;
+            }
+            docs[slot] = doc;
+            values[slot] = score;
+            if (++size * 2 > docs.length) {
+                grow();
+            }
+        }
+
+        private void grow() {
+            int[] oldDocs = docs;
+            double[] oldValues = values;
+            docs = new int[oldDocs.length * 2];
+            values = new double[oldDocs.length * 2];
+            Arrays.fill(docs, -1);
+            size = 0;
+            for (int i = 0; i < oldDocs.length; i++) {
+                if (oldDocs[i] >= 0) {
+                    add(oldDocs[i], oldValues[i], true);
+                }
+            }
+        }
+
+        private TopDocs top(int limit) {
+            TopDocs top = new TopDocs(limit);
+            for (int i = 0; i < docs.length; i++) {
+                if (docs[i] >= 0) {
+                    top.offer(docs[i], values[i]);
+                }
+            }
+            return top;
+        }
+    }
+
+    // ** 점수 상위 limit 개 (최소 힙, 같은 점수면 먼저 색인된 문서가 앞)
+    private static final class TopDocs {
+        private final int[] docs;
+        private final double[] values;
+        private int size;
+
+        private TopDocs(int limit) {
+            docs = new int[limit];
+            values = new double[limit];
+        }
+
+        private double minScore() {
+            return size == 0 ? 0 : values[0];
+        }
+
+        private void offer(int doc, double score) {
+            if (size < docs.length) {
+                docs[size] = doc;
+                values[size] = score;
+                siftUp(size++);
+            } else if (docs.length > 0 && less(docs[0], values[0], doc, score)) {
+                docs[0] = doc;
+                values[0] = score;
+                siftDown(0);
+            }
+        }
+
+        // ** 점수 내림차순 문서 번호 (힙은 비워짐)
+        private int[] sortedDocs() {
+            int[] sorted = new int[size];
+            for (int i = sorted.length - 1; i >= 0; i--) {
+                sorted[i] = docs[0];
+                size--;
+                docs[0] = docs[size];
+                values[0] = values[size];
+                siftDown(0);
+            }
+            return sorted;
+        }
+
+        // ** (docA, a) 가 (docB, b) 보다 순위가 낮은지
+        private static boolean less(int docA, double a, int docB, double b) {
+            return a < b || (a == b && docA > docB);
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!less(docs[i], values[i], docs[parent], values[parent])) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                if (left >= size) {
+                    return;
+                }
+                int child = left + 1 < size && less(docs[left + 1], values[left + 1], docs[left], values[left])
+                        ? left + 1 : left;
+                if (!less(docs[child], values[child], docs[i], values[i])) {
+                    return;
+                }
+                swap(i, child);
+                i = child;
+            }
+        }
+
+        private void swap(int i, int j) {
+            int doc = docs[i];
+            docs[i] = docs[j];
+            docs[j] = doc;
+            double value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+    }
+
+    // ** varint 로 압축된 포스팅 리스트 : [문서 번호 차이][출현 횟수] 반복
+    static class PostingList {
+        private byte[] bytes = new byte[8];
+        private int size;
+        private int lastDoc;
+        private int docFreq;
+
+        void append(int doc, int tf) {
+            writeVarInt(doc - lastDoc);
+            writeVarInt(tf);
+            lastDoc = doc;
+            docFreq++;
+        }
+
+        void forEach(PostingConsumer consumer) {
+            int pos = 0;
+            int doc = 0;
+            while (pos < size) {
+                int delta = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = bytes[pos++];
+                    delta |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+
+                int tf = 0;
+                shift = 0;
+                do {
+                    b = bytes[pos++];
+                    tf |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+
+                doc += delta;
+                consumer.accept(doc, tf);
+            }
+        }
+
+        private void writeVarInt(int value) {
+            if (size + 5 > bytes.length) {
+                bytes = Arrays.copyOf(bytes, bytes.length * 2);
+            }
+            while ((value & ~0x7F) != 0) {
+                bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+    }
+
+    @FunctionalInterface
+    interface PostingConsumer {
+        void accept(int doc, int tf);
+    }
+}
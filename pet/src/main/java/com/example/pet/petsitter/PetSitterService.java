@@ -2,14 +2,20 @@ package com.example.pet.petsitter;
 
 import com.example.pet.core.error.exception.Exception400;
 import com.example.pet.core.error.exception.Exception404;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 
@@ -18,53 +24,111 @@ import java.util.stream.Collectors;
 @Service
 public class PetSitterService {
     private final PetSitterRepository productRepository;
+    private final PetSitterFacetIndex facetIndex;
+    private final PetSitterSearchIndex searchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PetSitterAreaStats areaStats;
+    private final PetSitterListingVersionTracker listingVersionTracker;
+
+    // 한 페이지 최대 크기
+    private static final int MAX_PAGE_SIZE = 50;
 
     // 상품저장
+    @Timed(value = "petsitter.save", histogram = true)
     @Transactional
     public PetSitter save(PetSitterResponse.FindAllDTO product) {
         try {
             // DTO 를 엔티티로 변환해서 저장 후 변환
             PetSitter saveProduct = productRepository.save(product.toEntity());
+
+            // 커밋 후 검색 인덱스 갱신
+            eventPublisher.publishEvent(PetSitterChangedEvent.saved(saveProduct));
             return saveProduct;
         }catch (Exception e) {
             throw new Exception400("잘못된 요청으로 상품 등록 중 오류가 발생했습니다.");
         }
     }
-//
-//
-//    // 페이징된 상품목록 조회
-//    public List<PetSitterResponse.FindAllDTO> findAll(int page) {
-//
-//        Pageable pageable = PageRequest.of(page,3);
-//        Page<PetSitter> productPage = productRepository.findAll(pageable);
-//
-//        if (productPage.isEmpty()) {
-//            // 만약 페이지 내용이 비어 있다면 404 예외를 던집니다.
-//            throw new Exception404("해당 페이지에 상품이 없습니다.");
-//        }
-//
-//        // Product Entity - > DTO 변환 해서 리스트로 변환
-//        List<PetSitterResponse.FindAllDTO> productDTOS =
-//                productPage.getContent().stream().map(PetSitterResponse.FindAllDTO::new)//람다식 - > 기본생성자 호출
-//                .collect(Collectors.toList());
-//
-//        return productDTOS;
-//
-//    }
-//
-//    //개별상품 검색
-//    public PetSitterResponse.FindByIdDTO findById(Long id) { //상품 하나 안에 재품들이 여러개 일수 있음(+옵션)
-//    // DTO안에 LIST 가지고 있기 때문에 바로 DTO반환 (상품이랑 옵션 함께 반환 해야하기 때문에 ProductResponse.FindByIdDTO에서 작업)
-//        PetSitter product = productRepository.findById(id).orElseThrow( //예외 처리 바로하기
-//                () -> new Exception404("해당 상품을 찾을 수 없습니다. : " + id) // 상품이 없을 경우
-//        );
-//        // product.getId()로 Option 상품 검색
-//         List<Option> optionList = optionRepository.findByProductId(product.getId());
-//
-//        // ** 검색이 완료된 제품 - 리스트로 반환
-//        return new PetSitterResponse.FindByIdDTO(product, optionList); // 생성자 반환
-//    }
-//
+
+    // 목록 조회 (keyset 페이징) - 마지막으로 받은 (price, id) 다음부터 조회하므로 count 쿼리가 없음
+    public PetSitterResponse.PageDTO findAll(String cursor, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable pageable = PageRequest.of(0, limit + 1);
+
+        List<PetSitterResponse.SummaryDTO> rows;
+        if (cursor == null || cursor.isEmpty()) {
+            rows = productRepository.findFirstPage(pageable);
+        } else {
+            PetSitterCursor after = PetSitterCursor.decode(cursor);
+            rows = productRepository.findPageAfter(after.getPrice(), after.getId(), pageable);
+        }
+
+        if (rows.size() <= limit) {
+            return new PetSitterResponse.PageDTO(rows, null);
+        }
+
+        List<PetSitterResponse.SummaryDTO> content = new ArrayList<>(rows.subList(0, limit));
+        PetSitterResponse.SummaryDTO last = content.get(limit - 1);
+        return new PetSitterResponse.PageDTO(content, PetSitterCursor.encode(last.getPrice(), last.getId()));
+    }
+
+    // 지역별 가격 집계 - 미리 유지한 값만 반환 (DB 조회 없음)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public PetSitterResponse.StatsDTO stats() {
+        return areaStats.stats();
+    }
+
+    // 지역/가격 검색 - 메모리 인덱스만 사용하므로 트랜잭션(DB 커넥션)을 열지 않음
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public PetSitterResponse.FacetDTO searchFacets(List<String> areas, int minPrice, int maxPrice, int limit) {
+        if (minPrice > maxPrice) {
+            throw new Exception400("최소 가격이 최대 가격보다 클 수 없습니다.");
+        }
+        return facetIndex.search(areas, minPrice, maxPrice, Math.min(Math.max(limit, 1), MAX_PAGE_SIZE));
+    }
+
+    // 제목/설명 전문 검색 - 색인에서 상위 id 를 찾고, 그 id 들의 요약 정보만 DB 에서 조회
+    public PetSitterResponse.SearchDTO search(String query, int limit) {
+        if (query == null || query.trim().isEmpty()) {
+            throw new Exception400("검색어를 입력해주세요.");
+        }
+
+        List<Long> ids = searchIndex.search(query, Math.min(Math.max(limit, 1), MAX_PAGE_SIZE));
+        if (ids.isEmpty()) {
+            return new PetSitterResponse.SearchDTO(query, new ArrayList<>());
+        }
+
+        // DB 조회 결과를 색인 점수 순서로 다시 정렬
+        Map<Long, PetSitterResponse.SummaryDTO> found = productRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(PetSitterResponse.SummaryDTO::getId, Function.identity()));
+        List<PetSitterResponse.SummaryDTO> content = ids.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        return new PetSitterResponse.SearchDTO(query, content);
+    }
+
+    // 상세 조회
+    public PetSitterResponse.DetailDTO findById(Long id) {
+        PetSitter petSitter = productRepository.findById(id).orElseThrow(
+                () -> new Exception404("해당 펫시터를 찾을 수 없습니다. : " + id)
+        );
+        return new PetSitterResponse.DetailDTO(petSitter);
+    }
+
+    // 상세 조건부 GET 용 버전 - 엔티티를 읽지 않고 PK 로 (version, updatedAt) 만 조회
+    public PetSitterVersion findVersion(Long id) {
+        return productRepository.findVersionById(id).orElseThrow(
+                () -> new Exception404("해당 펫시터를 찾을 수 없습니다. : " + id)
+        );
+    }
+
+    // 목록 조건부 GET 용 버전 - 버전 행 PK 조회 1건
+    public PetSitterVersion findListingVersion() {
+        return listingVersionTracker.current();
+    }
 //
 //    // 상품 업데이트
 //    @Transactional
@@ -0,0 +1,36 @@
+package com.example.pet.petsitter;
+
+import lombok.Getter;
+
+import java.time.Instant;
+
+// ** 조건부 GET(ETag / Last-Modified) 판단용 버전 정보
+// 엔티티를 읽지 않고 JPQL 에서 바로 생성되므로, 304 응답은 이 값만으로 결정한다.
+@Getter
+public class PetSitterVersion {
+    // ** 목록이면 목록 버전 (PetSitterListingVersion), 상세면 해당 펫시터의 version
+    private final long version;
+
+    // ** 마지막 수정 시각 (없으면 null)
+    private final Instant updatedAt;
+
+    public PetSitterVersion(Long version, Instant updatedAt) {
+        this.version = version == null ? 0 : version;
+        this.updatedAt = updatedAt;
+    }
+
+    // ** 상세 응답용 - 같은 version 이면 바이트 단위로 같은 응답
+    public String strongETag() {
+        return "\"" + version + "\"";
+    }
+
+    // ** 목록 응답용 - 등록/수정/삭제마다 목록 버전이 증가하므로 바뀜
+    public String weakETag() {
+        return "W/\"" + version + "\"";
+    }
+
+    // ** Last-Modified 값 (epoch millis, 알 수 없으면 -1)
+    public long lastModified() {
+        return updatedAt == null ? -1 : updatedAt.toEpochMilli();
+    }
+}
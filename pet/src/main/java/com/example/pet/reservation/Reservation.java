@@ -0,0 +1,59 @@
+package com.example.pet.reservation;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// ** 펫시터 예약 (startDate ~ endDate, 양 끝 포함)
+@NoArgsConstructor
+@Getter
+@Table(indexes = {
+        @Index(name = "idx_reservation_pet_sitter", columnList = "petSitterId, startDate")
+})
+@Entity
+public class Reservation {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservation_seq")
+    @GenericGenerator(
+            name = "reservation_seq",
+            strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator",
+            parameters = {
+                    @Parameter(name = "sequence_name", value = "reservation_seq"),
+                    @Parameter(name = "increment_size", value = "50"),
+                    @Parameter(name = "optimizer", value = "pooled-lo")
+            }
+    )
+    private Long id;
+
+    // ** 연관관계 대신 id 만 보관 (예약 경로에서 펫시터/사용자 엔티티를 읽지 않음)
+    @Column(nullable = false)
+    private Long petSitterId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private LocalDate startDate;
+
+    @Column(nullable = false)
+    private LocalDate endDate;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public Reservation(Long id, Long petSitterId, Long userId, LocalDate startDate, LocalDate endDate) {
+        this.id = id;
+        this.petSitterId = petSitterId;
+        this.userId = userId;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.createdAt = LocalDateTime.now();
+    }
+}
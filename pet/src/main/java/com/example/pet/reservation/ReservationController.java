@@ -0,0 +1,30 @@
+package com.example.pet.reservation;
+
+import com.example.pet.core.security.CustomUserDetails;
+import com.example.pet.core.utils.ApiUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.validation.Valid;
+
+@RequiredArgsConstructor
+@RestController
+public class ReservationController {
+    private final ReservationService reservationService;
+
+    // ** 펫시터 예약 - 이미 예약된 날짜가 있으면 409
+    @PostMapping("/petsitter/{id}/reservations")
+    public ResponseEntity<?> reserve(@PathVariable Long id,
+                                     @RequestBody @Valid ReservationRequest.CreateDTO request,
+                                     @AuthenticationPrincipal CustomUserDetails userDetails) {
+        ReservationResponse.ReservationDTO reservation =
+                reservationService.reserve(id, userDetails.getUser().getId(), request);
+        ApiUtils.ApiResult<?> apiResult = ApiUtils.success(reservation);
+        return ResponseEntity.ok(apiResult);
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.pet.reservation;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ReservationRepository extends JpaRepository<Reservation, Long> {
+}
@@ -0,0 +1,29 @@
+package com.example.pet.reservation;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.validation.constraints.NotNull;
+import java.time.LocalDate;
+
+public class ReservationRequest {
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class CreateDTO {
+        // ** 맡기는 첫날 (yyyy-MM-dd)
+        @NotNull
+        private LocalDate startDate;
+
+        // ** 마지막 날 (포함)
+        @NotNull
+        private LocalDate endDate;
+
+        public CreateDTO(LocalDate startDate, LocalDate endDate) {
+            this.startDate = startDate;
+            this.endDate = endDate;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.pet.reservation;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+public class ReservationResponse {
+
+    @Getter
+    @Setter
+    public static class ReservationDTO {
+        private Long id;
+        private Long petSitterId;
+        private LocalDate startDate;
+        private LocalDate endDate;
+
+        public ReservationDTO(Reservation reservation) {
+            this.id = reservation.getId();
+            this.petSitterId = reservation.getPetSitterId();
+            this.startDate = reservation.getStartDate();
+            this.endDate = reservation.getEndDate();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.pet.reservation;
+
+import com.example.pet.core.error.exception.Exception400;
+import com.example.pet.core.error.exception.Exception404;
+import com.example.pet.core.error.exception.Exception409;
+import com.example.pet.petsitter.PetSitterRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 예약 처리
+ * - (펫시터, 날짜) 마다 줄무늬(striped) 락 하나를 잡고, 락을 쥔 채로 트랜잭션을 커밋한다.
+ *   같은 펫시터-날짜를 노리는 요청만 줄을 서고, 다른 펫시터/날짜 예약은 서로 기다리지 않는다.
+ * - 여러 날짜는 락 번호 순서대로 잡아 교착 상태를 피한다.
+ * - 인스턴스가 여러 대면 프로세스 내 락이 서로 보이지 않으므로 슬롯 유니크 제약이 최종 방어선.
+ */
+@Slf4j
+@Service
+public class ReservationService {
+    // ** 한 번에 예약할 수 있는 최대 일수
+    private static final int MAX_DAYS = 30;
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationSlotRepository slotRepository;
+    private final PetSitterRepository petSitterRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ReentrantLock[] stripes;
+
+    public ReservationService(ReservationRepository reservationRepository,
+                              ReservationSlotRepository slotRepository,
+                              PetSitterRepository petSitterRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${reservation.lock-stripes:1024}") int stripeCount) {
+        this.reservationRepository = reservationRepository;
+        this.slotRepository = slotRepository;
+        this.petSitterRepository = petSitterRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    @Timed(value = "reservation.create", histogram = true)
+    public ReservationResponse.ReservationDTO reserve(Long petSitterId, Long userId, ReservationRequest.CreateDTO request) {
+        LocalDate startDate = request.getStartDate();
+        LocalDate endDate = request.getEndDate();
+        validate(startDate, endDate);
+
+        List<ReentrantLock> locks = locksFor(petSitterId, startDate, endDate);
+        for (ReentrantLock lock : locks) {
+            lock.lock();
+        }
+        try {
+            // ** 커밋까지 락 안에서 끝내야 다음 요청이 커밋된 슬롯을 본다.
+            Reservation reservation = transactionTemplate.execute(status ->
+                    book(petSitterId, userId, startDate, endDate)
+            );
+            return new ReservationResponse.ReservationDTO(reservation);
+        } catch (DataIntegrityViolationException e) {
+            // ** 다른 인스턴스가 먼저 같은 슬롯을 커밋한 경우
+            throw new Exception409("이미 예약된 날짜가 포함되어 있습니다.");
+        } finally {
+            for (int i = locks.size() - 1; i >= 0; i--) {
+                locks.get(i).unlock();
+            }
+        }
+    }
+
+    private Reservation book(Long petSitterId, Long userId, LocalDate startDate, LocalDate endDate) {
+        if (!petSitterRepository.existsById(petSitterId)) {
+            throw new Exception404("해당 펫시터를 찾을 수 없습니다. : " + petSitterId);
+        }
+
+        List<LocalDate> booked = slotRepository.findBookedDates(petSitterId, startDate, endDate);
+        if (!booked.isEmpty()) {
+            throw new Exception409("이미 예약된 날짜가 포함되어 있습니다. : " + booked);
+        }
+
+        Reservation reservation = reservationRepository.save(Reservation.builder()
+                .petSitterId(petSitterId)
+                .userId(userId)
+                .startDate(startDate)
+                .endDate(endDate)
+                .build());
+
+        List<ReservationSlot> slots = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            slots.add(new ReservationSlot(reservation.getId(), petSitterId, date));
+        }
+        slotRepository.saveAll(slots);
+
+        // ** 유니크 제약 위반을 커밋 전에 여기서 드러나게 함
+        slotRepository.flush();
+        return reservation;
+    }
+
+    private void validate(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            throw new Exception400("예약 시작일과 종료일을 입력해주세요.");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new Exception400("시작일이 종료일보다 늦을 수 없습니다.");
+        }
+        if (startDate.isBefore(LocalDate.now())) {
+            throw new Exception400("지난 날짜는 예약할 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) + 1 > MAX_DAYS) {
+            throw new Exception400("한 번에 최대 " + MAX_DAYS + "일까지 예약할 수 있습니다.");
+        }
+    }
+
+    // ** 날짜별 락 번호를 중복 없이 오름차순으로 (모든 요청이 같은 순서로 잡음)
+    private List<ReentrantLock> locksFor(Long petSitterId, LocalDate startDate, LocalDate endDate) {
+        TreeSet<Integer> indexes = new TreeSet<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            indexes.add(stripe(petSitterId, date.toEpochDay()));
+        }
+        List<ReentrantLock> locks = new ArrayList<>(indexes.size());
+        for (int index : indexes) {
+            locks.add(stripes[index]);
+        }
+        return locks;
+    }
+
+    private int stripe(long petSitterId, long epochDay) {
+        long h = petSitterId * 0x9E3779B97F4A7C15L + epochDay;
+        h ^= (h >>> 32);
+        h *= 0xBF58476D1CE4E5B9L;
+        h ^= (h >>> 29);
+        return (int) Math.floorMod(h, (long) stripes.length);
+    }
+}
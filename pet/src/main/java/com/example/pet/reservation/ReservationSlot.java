@@ -0,0 +1,50 @@
+package com.example.pet.reservation;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+
+/**
+ * 예약된 펫시터-날짜 한 칸
+ * (pet_sitter_id, slot_date) 유니크 제약이 이중 예약을 최종적으로 막는다.
+ * (인스턴스가 여러 대여서 프로세스 내 락이 서로 보이지 않는 경우에도)
+ */
+@NoArgsConstructor
+@Getter
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_reservation_slot_sitter_date", columnNames = {"petSitterId", "slotDate"})
+})
+@Entity
+public class ReservationSlot {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservation_slot_seq")
+    @GenericGenerator(
+            name = "reservation_slot_seq",
+            strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator",
+            parameters = {
+                    @Parameter(name = "sequence_name", value = "reservation_slot_seq"),
+                    @Parameter(name = "increment_size", value = "50"),
+                    @Parameter(name = "optimizer", value = "pooled-lo")
+            }
+    )
+    private Long id;
+
+    @Column(nullable = false)
+    private Long reservationId;
+
+    @Column(nullable = false)
+    private Long petSitterId;
+
+    @Column(nullable = false)
+    private LocalDate slotDate;
+
+    public ReservationSlot(Long reservationId, Long petSitterId, LocalDate slotDate) {
+        this.reservationId = reservationId;
+        this.petSitterId = petSitterId;
+        this.slotDate = slotDate;
+    }
+}
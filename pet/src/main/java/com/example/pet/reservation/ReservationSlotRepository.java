@@ -0,0 +1,19 @@
+package com.example.pet.reservation;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ReservationSlotRepository extends JpaRepository<ReservationSlot, Long> {
+
+    // ** 기간 안에 이미 예약된 날짜 (유니크 인덱스 (petSitterId, slotDate) 범위 조회)
+    @Query("select s.slotDate from ReservationSlot s " +
+            "where s.petSitterId = :petSitterId and s.slotDate between :startDate and :endDate " +
+            "order by s.slotDate asc")
+    List<LocalDate> findBookedDates(@Param("petSitterId") Long petSitterId,
+                                    @Param("startDate") LocalDate startDate,
+                                    @Param("endDate") LocalDate endDate);
+}
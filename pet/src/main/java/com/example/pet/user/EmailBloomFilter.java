@@ -0,0 +1,125 @@
+package com.example.pet.user;
+
+import com.example.pet.core.utils.BloomFilter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 가입된 이메일 블룸 필터
+ * "확실히 없는 이메일" 은 DB 조회 없이 판단하고, "있을 수도 있음" 일 때만 DB 를 확인한다.
+ * 시작 시 로딩하고, 가입 시 추가하며, 주기적으로 DB 에서 다시 만든다.
+ */
+@Slf4j
+@Component
+public class EmailBloomFilter implements MeterBinder {
+    private final UserRepository userRepository;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final long maxBytes;
+
+    // ** synchronized 대신 ReentrantLock (경합 시 가상 스레드가 캐리어 스레드를 붙잡지 않음)
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile BloomFilter filter;
+
+    // ** 재생성 중에 추가된 이메일 (lock 으로 보호, 재생성 중이 아니면 null)
+    private List<String> pending;
+
+    public EmailBloomFilter(UserRepository userRepository,
+                            @Value("${user.email-filter.expected-insertions:100000}") long expectedInsertions,
+                            @Value("${user.email-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                            @Value("${user.email-filter.max-bytes:4194304}") long maxBytes) {
+        this.userRepository = userRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.maxBytes = maxBytes;
+    }
+
+    @PostConstruct
+    public void init() {
+        rebuild();
+    }
+
+    // ** DB 기준으로 새 필터를 만들어 교체
+    @Scheduled(fixedDelayString = "${user.email-filter.rebuild-interval-ms:3600000}",
+            initialDelayString = "${user.email-filter.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        lock.lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.unlock();
+        }
+
+        List<String> emails = userRepository.findAllEmails();
+        BloomFilter fresh = BloomFilter.create(
+                Math.max(expectedInsertions, emails.size() * 2L), falsePositiveRate, maxBytes
+        );
+        for (String email : emails) {
+            fresh.put(normalize(email));
+        }
+
+        lock.lock();
+        try {
+            for (String email : pending) {
+                fresh.put(email);
+            }
+            pending = null;
+            filter = fresh;
+        } finally {
+            lock.unlock();
+        }
+        log.info("이메일 블룸 필터 생성 : {}건, 비트 {}, 해시 {}개, 채움 비율 {}",
+                emails.size(), fresh.bitSize(), fresh.hashCount(), String.format("%.4f", fresh.fillRatio()));
+    }
+
+    public boolean mightContain(String email) {
+        return email != null && filter.mightContain(normalize(email));
+    }
+
+    public void put(String email) {
+        String normalized = normalize(email);
+        lock.lock();
+        try {
+            filter.put(normalized);
+            if (pending != null) {
+                pending.add(normalized);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public double fillRatio() {
+        return filter.fillRatio();
+    }
+
+    public double expectedFalsePositiveRate() {
+        return filter.expectedFalsePositiveRate();
+    }
+
+    // ** 채움 비율이 올라가면 오탐률도 올라가므로 재생성 주기/용량 조정의 근거로 사용
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("user.email.filter.fill.ratio", this, EmailBloomFilter::fillRatio)
+                .register(registry);
+        Gauge.builder("user.email.filter.false.positive.rate", this, EmailBloomFilter::expectedFalsePositiveRate)
+                .register(registry);
+    }
+
+    // ** MySQL 기본 collation 과 같이 대소문자/뒤 공백을 무시
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
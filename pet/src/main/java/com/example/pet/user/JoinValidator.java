@@ -0,0 +1,151 @@
+package com.example.pet.user;
+
+import org.springframework.stereotype.Component;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+/**
+ * 회원가입 / 이메일 확인 요청(UserRequest.JoinDTO) 검증기
+ * 정규식(전방 탐색) 대신 필드마다 문자열을 한 번만 훑어서 판단한다. (되돌아가며 다시 검사하지 않음)
+ * 규칙과 메시지는 기존 @NotEmpty / @Size / @Pattern 과 같고, 필드마다 첫 번째 오류만 남긴다.
+ */
+@Component
+public class JoinValidator implements Validator {
+    public static final String NOT_EMPTY_MESSAGE = "비어 있을 수 없습니다";
+    public static final String EMAIL_MESSAGE = "이메일 형식으로 작성해주세요";
+    public static final String PASSWORD_SIZE_MESSAGE = "8자 이상 20자 이내로 작성 가능합니다.";
+    public static final String PASSWORD_MESSAGE = "영문, 숫자, 특수문자가 포함되어야하고 공백이 포함될 수 없습니다.";
+    public static final String PHONE_MESSAGE = "휴대폰 번호는 숫자 10~11자리만 가능합니다.";
+
+    private static final int PASSWORD_MIN = 8;
+    private static final int PASSWORD_MAX = 20;
+
+    // ** 비밀번호에 하나 이상 포함되어야 하는 특수문자 (ASCII 표)
+    private static final boolean[] SPECIAL = asciiTable("@#$%^&+=!~`<>,./?;:'\"[]{}\\()|_-");
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return UserRequest.JoinDTO.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        UserRequest.JoinDTO dto = (UserRequest.JoinDTO) target;
+
+        String email = dto.getEmail();
+        if (email == null || email.isEmpty()) {
+            errors.rejectValue("email", "NotEmpty", NOT_EMPTY_MESSAGE);
+        } else if (!isEmail(email)) {
+            errors.rejectValue("email", "Pattern", EMAIL_MESSAGE);
+        }
+
+        String password = dto.getPassword();
+        if (password == null || password.isEmpty()) {
+            errors.rejectValue("password", "NotEmpty", NOT_EMPTY_MESSAGE);
+        } else if (password.length() < PASSWORD_MIN || password.length() > PASSWORD_MAX) {
+            errors.rejectValue("password", "Size", PASSWORD_SIZE_MESSAGE);
+        } else if (!isPassword(password)) {
+            errors.rejectValue("password", "Pattern", PASSWORD_MESSAGE);
+        }
+
+        // ** 휴대폰 번호는 선택 입력 (null 허용)
+        String phoneNumber = dto.getPhoneNumber();
+        if (phoneNumber != null && !isPhoneNumber(phoneNumber)) {
+            errors.rejectValue("phoneNumber", "Pattern", PHONE_MESSAGE);
+        }
+    }
+
+    // ** ^[\w._%+-]+@[\w.-]+\.[a-zA-Z]{2,6}$
+    // 도메인의 마지막 '.' 뒤가 영문 2~6자이고 그 앞이 비어 있지 않으면 통과
+    public static boolean isEmail(String value) {
+        int at = -1;
+        int lastDot = -1;
+        boolean suffixLetters = false;
+        int length = value.length();
+
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (at < 0) {
+                if (c == '@') {
+                    if (i == 0) {
+                        return false;
+                    }
+                    at = i;
+                } else if (!isWord(c) && c != '.' && c != '%' && c != '+' && c != '-') {
+                    return false;
+                }
+            } else if (c == '.') {
+                lastDot = i;
+                suffixLetters = true;
+            } else if (isWord(c) || c == '-') {
+                suffixLetters &= isLetter(c);
+            } else {
+                return false;
+            }
+        }
+
+        int suffix = length - lastDot - 1;
+        return at > 0 && lastDot > at + 1 && suffixLetters && suffix >= 2 && suffix <= 6;
+    }
+
+    // ** ^(?=.*[a-zA-Z])(?=.*\d)(?=.*[특수문자])\S*$
+    // 공백이 없고 영문/숫자/특수문자가 각각 하나 이상 (전방 탐색의 '.' 은 줄 구분 문자를 넘지 못하므로 그 앞까지만 인정)
+    public static boolean isPassword(String value) {
+        boolean letter = false;
+        boolean digit = false;
+        boolean special = false;
+        boolean lineBreak = false;
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (isWhitespace(c)) {
+                return false;
+            }
+            if (c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                lineBreak = true;
+            } else if (!lineBreak) {
+                letter |= isLetter(c);
+                digit |= c >= '0' && c <= '9';
+                special |= c < SPECIAL.length && SPECIAL[c];
+            }
+        }
+        return letter && digit && special;
+    }
+
+    // ** ^[0-9]{10,11}$
+    public static boolean isPhoneNumber(String value) {
+        int length = value.length();
+        if (length < 10 || length > 11) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    // ** 정규식 \w (ASCII)
+    private static boolean isWord(char c) {
+        return isLetter(c) || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    // ** 정규식 \s (ASCII)
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static boolean[] asciiTable(String chars) {
+        boolean[] table = new boolean[128];
+        for (int i = 0; i < chars.length(); i++) {
+            table[chars.charAt(i)] = true;
+        }
+        return table;
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.pet.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 사용자 조회 캐시 (Caffeine : W-TinyLFU, 크기 + TTL 제한)
+ * 이메일/ id 로 조회한 사용자를 영속성 컨텍스트와 분리된 복사본으로 보관한다.
+ * 사용자 정보가 바뀌는 곳(가입, 수정)에서는 반드시 invalidate 를 호출해야 한다.
+ */
+@Component
+public class UserCache implements MeterBinder {
+    private final UserRepository userRepository;
+
+    // ** 이메일(정규화) -> 사용자
+    private final Cache<String, User> byEmail;
+
+    // ** id -> 이메일(정규화)
+    private final Cache<Long, String> emailById;
+
+    public UserCache(UserRepository userRepository,
+                     @Value("${user.cache.maximum-size:10000}") long maximumSize,
+                     @Value("${user.cache.ttl-seconds:600}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.byEmail = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.emailById = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public Optional<User> findByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        String key = normalize(email);
+        User cached = byEmail.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        // ** 없는 사용자는 캐시하지 않음 (가입 직후 바로 조회될 수 있도록)
+        return userRepository.findByEmail(email).map(this::put);
+    }
+
+    public Optional<User> findById(Long id) {
+        String email = emailById.getIfPresent(id);
+        if (email != null) {
+            User cached = byEmail.getIfPresent(email);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        }
+        return userRepository.findById(id).map(this::put);
+    }
+
+    public void invalidate(String email) {
+        if (email != null) {
+            byEmail.invalidate(normalize(email));
+        }
+    }
+
+    public void invalidate(Long id) {
+        String email = emailById.getIfPresent(id);
+        emailById.invalidate(id);
+        if (email != null) {
+            byEmail.invalidate(email);
+        }
+    }
+
+    // ** hit/miss/eviction 통계
+    public CacheStats stats() {
+        return byEmail.stats();
+    }
+
+    public long size() {
+        return byEmail.estimatedSize();
+    }
+
+    // ** cache.gets{cache=user.byEmail, result=hit|miss}, cache.size 등
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, byEmail, "user.byEmail");
+    }
+
+    private User put(User user) {
+        User copy = User.builder()
+                .id(user.getId())
+                .email(user.getEmail())
+                .password(user.getPassword())
+                .username(user.getUsername())
+                .phoneNumber(user.getPhoneNumber())
+                .address(user.getAddress())
+                .roles(Collections.unmodifiableList(new ArrayList<>(user.getRoles())))
+                .build();
+        String key = normalize(user.getEmail());
+        byEmail.put(key, copy);
+        emailById.put(user.getId(), key);
+        return copy;
+    }
+
+    // ** MySQL 기본 collation 과 같이 대소문자/뒤 공백을 무시
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -4,11 +4,11 @@ import com.example.pet.core.utils.ApiUtils;
 import com.example.pet.core.security.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import javax.servlet.http.Cookie;
-import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 
 @Slf4j
@@ -18,32 +18,35 @@ public class UserController {
     private final UserService userservice;
 
     @PostMapping("/join")
-    public ResponseEntity<?> join(@RequestBody @Valid UserRequest.JoinDTO request, Error error) {
+    public ResponseEntity<?> join(@RequestBody @Valid UserRequest.JoinDTO request) {
         userservice.join(request);
         return ResponseEntity.ok( ApiUtils.success(null) );
     }
 
 
     @PostMapping("/check")
-    public ResponseEntity<?> check(@RequestBody @Valid UserRequest.JoinDTO requestDTO, Error error) {
+    public ResponseEntity<?> check(@RequestBody @Valid UserRequest.JoinDTO requestDTO) {
         userservice.checkEmail(requestDTO.getEmail());
         return ResponseEntity.ok( ApiUtils.success(null) );
     }
 
     @PostMapping(value = "/login")
-    public ResponseEntity<?> signin(@RequestBody UserRequest.JoinDTO request, HttpServletResponse response, Error error) {
+    public ResponseEntity<?> signin(@RequestBody UserRequest.JoinDTO request) {
         String jwt = userservice.login(request);
 
         // "Bearer " 접두사 제거
         jwt = jwt.replace(JwtTokenProvider.TOKEN_PREFIX, "");
 
-        // 쿠키 설정
-        Cookie cookie = new Cookie("jwtToken", jwt);
-        cookie.setHttpOnly(true);
-        cookie.setPath("/"); // 모든 경로에서 쿠키 접근 가능
-        response.addCookie(cookie);
+        // 쿠키 설정 - SameSite=Lax 로 다른 사이트에서 보낸 POST 등에는 붙지 않도록
+        // (Cookie 클래스는 SameSite 를 지원하지 않으므로 ResponseCookie 사용)
+        ResponseCookie cookie = ResponseCookie.from(JwtTokenProvider.COOKIE, jwt)
+                .httpOnly(true)
+                .path("/") // 모든 경로에서 쿠키 접근 가능
+                .sameSite("Lax")
+                .build();
 
         return ResponseEntity.ok().header(JwtTokenProvider.HEADER, jwt)
+                .header(HttpHeaders.SET_COOKIE, cookie.toString())
                 .body(ApiUtils.success(null));
     }
 }
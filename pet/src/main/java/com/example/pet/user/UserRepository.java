@@ -1,10 +1,16 @@
 package com.example.pet.user;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
+    // ** 이메일 블룸 필터 생성용
+    @Query("select u.email from User u")
+    List<String> findAllEmails();
+
 }
@@ -3,8 +3,11 @@ package com.example.pet.user;
 import com.example.pet.core.error.exception.Exception400;
 import com.example.pet.core.error.exception.Exception401;
 import com.example.pet.core.error.exception.Exception500;
+import com.example.pet.core.error.exception.Exception503;
 import com.example.pet.core.security.*;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -25,8 +28,16 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
+    private final EmailBloomFilter emailBloomFilter;
+    private final UserCache userCache;
 
+    @Timed(value = "user.check.email", histogram = true)
     public void checkEmail(String email) {
+        // 블룸 필터에 없으면 확실히 없는 이메일 - DB 조회 생략
+        if (!emailBloomFilter.mightContain(email)) {
+            return;
+        }
+
         // 동일한 이메일이 있는지 확인.
         Optional<User> users = userRepository.findByEmail(email);
         if(users.isPresent()) {
@@ -34,18 +45,27 @@ public class UserService {
         }
     }
 
+    @Timed(value = "user.join", histogram = true)
     @Transactional
     public void join(UserRequest.JoinDTO requestDTO) {
         checkEmail(requestDTO.getEmail());
         String encodedPassword = passwordEncoder.encode(requestDTO.getPassword());
         requestDTO.setPassword(encodedPassword);
         try {
-            userRepository.save(requestDTO.toEntity());
+            // 시퀀스 id 라 insert 가 커밋 시점으로 미뤄지므로, 중복 등 오류를 여기서 잡기 위해 바로 flush
+            userRepository.saveAndFlush(requestDTO.toEntity());
+            emailBloomFilter.put(requestDTO.getEmail());
+            userCache.invalidate(requestDTO.getEmail());
+        }catch (DataIntegrityViolationException e){
+            // 블룸 필터는 노드마다 따로라 다른 노드에서 방금 가입한 이메일은 unique 제약에서 걸림
+            emailBloomFilter.put(requestDTO.getEmail());
+            throw new Exception400("이미 존재하는 이메일 입니다. : " + requestDTO.getEmail());
         }catch (Exception e){
             throw new Exception500(e.getMessage());
         }
     }
 
+    @Timed(value = "user.login", histogram = true)
     @Transactional
     public String login(UserRequest.JoinDTO requestDTO) {
         // ** 인증 작업.
@@ -66,6 +86,14 @@ public class UserService {
             // ** 토큰 발급 - 이 JWT 토큰은 사용자 인증을 통해 확인된 사용자의 정보를 포함
             return JwtTokenProvider.create(customUserDetails.getUser());
         }catch (Exception e){
+            // 비밀번호 해시 풀이 가득 찬 경우는 인증 실패가 아니라 과부하(503)로 응답.
+            // (사용자 조회 중 발생하면 InternalAuthenticationServiceException 으로 감싸져서 옴)
+            if (e instanceof Exception503) {
+                throw (Exception503) e;
+            }
+            if (e.getCause() instanceof Exception503) {
+                throw (Exception503) e.getCause();
+            }
             // 401 반환.
             throw new Exception401("인증되지 않음.");
         }
@@ -73,7 +101,7 @@ public class UserService {
 
 
     public Optional<User> findByEmail(String email) {
-        Optional<User> foundMember = userRepository.findByEmail(email);
+        Optional<User> foundMember = userCache.findByEmail(email);
         return foundMember;
     }
 }
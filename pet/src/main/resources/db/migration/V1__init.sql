@@ -0,0 +1,79 @@
+-- ** 초기 스키마 (운영 프로필 : Flyway 로 적용하고 Hibernate 는 validate 만 수행)
+-- 엔티티 매핑(MySQL5InnoDBDialect)이 만드는 DDL 과 같은 타입/이름을 사용한다.
+-- 엔티티를 바꾸면 V2__... 파일을 추가할 것 (이미 적용된 파일은 수정하지 않음)
+
+-- ** pooled-lo 시퀀스 - MySQL 은 시퀀스가 없으므로 Hibernate 와 같은 방식의 단일 행 테이블
+create table user_seq (
+    next_val bigint
+) engine=InnoDB;
+insert into user_seq values (1);
+
+create table pet_sitter_seq (
+    next_val bigint
+) engine=InnoDB;
+insert into pet_sitter_seq values (1);
+
+create table reservation_seq (
+    next_val bigint
+) engine=InnoDB;
+insert into reservation_seq values (1);
+
+create table reservation_slot_seq (
+    next_val bigint
+) engine=InnoDB;
+insert into reservation_slot_seq values (1);
+
+create table user_tb (
+    id bigint not null,
+    email varchar(100) not null,
+    password varchar(256),
+    username varchar(45) not null,
+    phone_number varchar(16),
+    address varchar(500),
+    roles varchar(30),
+    primary key (id),
+    constraint uk_user_tb_email unique (email)
+) engine=InnoDB;
+
+create table pet_sitter (
+    id bigint not null,
+    title varchar(100) not null,
+    description varchar(500) not null,
+    image varchar(100),
+    price integer not null,
+    area varchar(255),
+    version bigint not null,
+    updated_at datetime,
+    primary key (id)
+) engine=InnoDB;
+create index idx_pet_sitter_price_id on pet_sitter (price, id);
+create index idx_pet_sitter_updated_at on pet_sitter (updated_at);
+
+create table reservation (
+    id bigint not null,
+    pet_sitter_id bigint not null,
+    user_id bigint not null,
+    start_date date not null,
+    end_date date not null,
+    created_at datetime not null,
+    primary key (id)
+) engine=InnoDB;
+create index idx_reservation_pet_sitter on reservation (pet_sitter_id, start_date);
+
+create table reservation_slot (
+    id bigint not null,
+    reservation_id bigint not null,
+    pet_sitter_id bigint not null,
+    slot_date date not null,
+    primary key (id),
+    constraint uk_reservation_slot_sitter_date unique (pet_sitter_id, slot_date)
+) engine=InnoDB;
+
+-- ** 기준일 + 384일 비트셋 (48바이트)
+create table sitter_availability (
+    pet_sitter_id bigint not null,
+    base_epoch_day bigint not null,
+    bits tinyblob not null,
+    version bigint,
+    primary key (pet_sitter_id)
+) engine=InnoDB;
@@ -0,0 +1,27 @@
+-- ** 폐기된 토큰 (로그아웃) - TokenRevocationStore 가 revoked_at 기준으로 증분 조회
+-- ddl-auto 로 만든 스키마(V1 로 baseline)에는 이미 테이블/인덱스가 있으므로 없을 때만 생성
+create table if not exists revoked_token (
+    jti varchar(36) not null,
+    expires_at datetime not null,
+    revoked_at datetime not null,
+    primary key (jti)
+) engine=InnoDB;
+
+-- ** MySQL 은 create index if not exists 가 없으므로 information_schema 로 확인 후 생성
+set @ddl = if((select count(*) from information_schema.statistics
+               where table_schema = database() and table_name = 'revoked_token'
+                 and index_name = 'idx_revoked_token_revoked_at') = 0,
+              'create index idx_revoked_token_revoked_at on revoked_token (revoked_at)',
+              'do 0');
+prepare statement from @ddl;
+execute statement;
+deallocate prepare statement;
+
+set @ddl = if((select count(*) from information_schema.statistics
+               where table_schema = database() and table_name = 'revoked_token'
+                 and index_name = 'idx_revoked_token_expires_at') = 0,
+              'create index idx_revoked_token_expires_at on revoked_token (expires_at)',
+              'do 0');
+prepare statement from @ddl;
+execute statement;
+deallocate prepare statement;
@@ -0,0 +1,12 @@
+-- ** 목록 조건부 GET 용 버전 (한 행) - PetSitterListingVersionTracker 가 변경 트랜잭션 안에서 증가
+-- ddl-auto 로 만든 스키마(V1 로 baseline)에는 테이블과 id=1 행이 이미 있을 수 있으므로 없을 때만 생성
+create table if not exists pet_sitter_listing_version (
+    id bigint not null,
+    version bigint not null,
+    updated_at datetime not null,
+    primary key (id)
+) engine=InnoDB;
+
+insert into pet_sitter_listing_version (id, version, updated_at)
+select 1, 0, now() from dual
+where not exists (select 1 from pet_sitter_listing_version where id = 1);
@@ -0,0 +1,19 @@
+-- ** 지연 저장 추적 id - 재시작 시 재처리되는 기록 중 이미 저장된 건을 건너뛰기 위한 유일 컬럼 (일반 등록은 null)
+-- ddl-auto 로 만든 스키마(V1 로 baseline)에는 이미 컬럼/제약이 있을 수 있으므로 없을 때만 추가
+set @ddl = if((select count(*) from information_schema.columns
+               where table_schema = database() and table_name = 'pet_sitter'
+                 and column_name = 'ingest_tracking_id') = 0,
+              'alter table pet_sitter add column ingest_tracking_id varchar(36)',
+              'do 0');
+prepare statement from @ddl;
+execute statement;
+deallocate prepare statement;
+
+set @ddl = if((select count(*) from information_schema.statistics
+               where table_schema = database() and table_name = 'pet_sitter'
+                 and index_name = 'uk_pet_sitter_ingest_tracking_id') = 0,
+              'alter table pet_sitter add constraint uk_pet_sitter_ingest_tracking_id unique (ingest_tracking_id)',
+              'do 0');
+prepare statement from @ddl;
+execute statement;
+deallocate prepare statement;
@@ -0,0 +1,97 @@
+package com.example.pet.availability;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ** 달력 비트 연산을 BitSet 으로 한 비트씩 계산한 값과 비교 (word 경계 포함)
+class AvailabilityBitsTests {
+    private static final int DAYS = AvailabilityBits.DAYS;
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, -1, 2, 63, -63, 64, -64, 65, -65, 127, 128, 191, 320, 383, -383, 384, -384, 1000, -1000})
+    void shiftAcrossWordBoundaries(long days) {
+        Random random = new Random(days);
+        for (int round = 0; round < 20; round++) {
+            long[] words = randomWords(random);
+            BitSet expected = new BitSet(DAYS);
+            for (int i = 0; i < DAYS; i++) {
+                long source = i + days;
+                if (source >= 0 && source < DAYS && get(words, (int) source)) {
+                    expected.set(i);
+                }
+            }
+            assertThat(toBitSet(AvailabilityBits.shift(words, days))).as("days=%d", days).isEqualTo(expected);
+        }
+    }
+
+    // ** 옮겼다가 되돌리면 양 끝에서 빠진 날짜만 비어 있음
+    @Test
+    void shiftRoundTrip() {
+        long[] words = randomWords(new Random(7));
+        long[] restored = AvailabilityBits.shift(AvailabilityBits.shift(words, 70), -70);
+        for (int i = 0; i < DAYS; i++) {
+            assertThat(get(restored, i)).as("bit %d", i).isEqualTo(i >= 70 && get(words, i));
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "0, 0", "0, 383", "63, 63", "63, 64", "64, 64", "62, 65", "0, 63", "64, 127",
+            "10, 200", "127, 256", "300, 383", "383, 383", "1, 382"
+    })
+    void maskSetAndAllSet(int from, int to) {
+        for (int w = from >>> 6; w <= to >>> 6; w++) {
+            long expected = 0;
+            for (int bit = 0; bit < 64; bit++) {
+                int day = w * 64 + bit;
+                if (day >= from && day <= to) {
+                    expected |= 1L << bit;
+                }
+            }
+            assertThat(AvailabilityBits.mask(w, from, to)).as("word %d", w).isEqualTo(expected);
+        }
+
+        long[] words = randomWords(new Random(from * 31L + to));
+        BitSet expected = toBitSet(words);
+        AvailabilityBits.set(words, from, to, true);
+        expected.set(from, to + 1);
+        assertThat(toBitSet(words)).isEqualTo(expected);
+        assertThat(AvailabilityBits.allSet(words, from, to)).isTrue();
+
+        AvailabilityBits.set(words, to, to, false);
+        expected.clear(to);
+        assertThat(toBitSet(words)).isEqualTo(expected);
+        assertThat(AvailabilityBits.allSet(words, from, to)).isFalse();
+        assertThat(AvailabilityBits.count(words)).isEqualTo(expected.cardinality());
+    }
+
+    @Test
+    void bytesRoundTrip() {
+        long[] words = randomWords(new Random(1));
+        assertThat(AvailabilityBits.fromBytes(AvailabilityBits.toBytes(words))).isEqualTo(words);
+        assertThat(AvailabilityBits.fromBytes(null)).isEqualTo(AvailabilityBits.empty());
+    }
+
+    static long[] randomWords(Random random) {
+        long[] words = AvailabilityBits.empty();
+        for (int i = 0; i < words.length; i++) {
+            words[i] = random.nextLong();
+        }
+        return words;
+    }
+
+    private static boolean get(long[] words, int day) {
+        return (words[day >>> 6] & (1L << day)) != 0;
+    }
+
+    private static BitSet toBitSet(long[] words) {
+        return BitSet.valueOf(words);
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.pet.availability;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ** 기간 조회 결과가 날짜별로 확인한 전체 스캔과 같은지 (저장 기준일이 지난 달력 포함)
+class AvailabilityIndexTests {
+    private static final String[] AREAS = {"서울", "부산", " 대구 "};
+
+    private final LocalDate today = LocalDate.now();
+    private final AvailabilityIndex index = new AvailabilityIndex(null);
+    private final List<Object[]> rows = new ArrayList<>();
+
+    // ** id -> 오늘 기준으로 맞춘 달력
+    private final List<long[]> aligned = new ArrayList<>();
+
+    @Test
+    void searchMatchesFullScan() {
+        load(500);
+        Random random = new Random(3);
+        int[][] ranges = {{0, 0}, {0, 383}, {63, 64}, {64, 127}, {60, 70}, {127, 128}, {380, 383}, {200, 201}};
+        for (int[] range : ranges) {
+            assertSearch(Collections.emptyList(), range[0], range[1], 1000);
+            assertSearch(Arrays.asList("서울", "대구"), range[0], range[1], 5);
+        }
+        for (int i = 0; i < 100; i++) {
+            int from = random.nextInt(AvailabilityBits.DAYS);
+            int to = Math.min(AvailabilityBits.DAYS - 1, from + random.nextInt(10));
+            assertSearch(Collections.singletonList("부산"), from, to, 1 + random.nextInt(20));
+        }
+        assertSearch(Collections.singletonList("없는 지역"), 0, 5, 10);
+    }
+
+    @Test
+    void rangeOutsideWindowOrReversed() {
+        load(10);
+        assertThat(index.search(null, today.minusDays(1), today, 10)).isNull();
+        assertThat(index.search(null, today, today.plusDays(AvailabilityBits.DAYS), 10)).isNull();
+
+        // ** 시작일 > 종료일은 달력 밖이 아니라 빈 결과
+        AvailabilityIndex.Result reversed = index.search(null, today.plusDays(5), today.plusDays(4), 10);
+        assertThat(reversed.getTotal()).isZero();
+        assertThat(reversed.getIds()).isEmpty();
+    }
+
+    private void load(int count) {
+        Random random = new Random(count);
+        for (int i = 0; i < count; i++) {
+            long[] words = AvailabilityBitsTests.randomWords(random);
+            // ** 대부분 가능하도록 세 번 OR (빈 결과만 비교하지 않도록)
+            for (int k = 0; k < 2; k++) {
+                long[] more = AvailabilityBitsTests.randomWords(random);
+                for (int w = 0; w < words.length; w++) {
+                    words[w] |= more[w];
+                }
+            }
+            // ** 일부는 며칠 전 기준일로 저장된 달력
+            long stored = today.toEpochDay() - (i % 3 == 0 ? random.nextInt(100) : 0);
+            rows.add(new Object[]{(long) i, AREAS[i % AREAS.length], stored, AvailabilityBits.toBytes(words)});
+            aligned.add(AvailabilityBits.shift(words, today.toEpochDay() - stored));
+        }
+        index.load(rows);
+    }
+
+    private void assertSearch(List<String> areas, int from, int to, int limit) {
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            String area = ((String) rows.get(i)[1]).trim();
+            if (!areas.isEmpty() && !areas.contains(area)) {
+                continue;
+            }
+            boolean available = true;
+            for (int day = from; day <= to; day++) {
+                available &= (aligned.get(i)[day >>> 6] & (1L << day)) != 0;
+            }
+            if (available) {
+                expected.add((Long) rows.get(i)[0]);
+            }
+        }
+
+        AvailabilityIndex.Result result = index.search(areas, today.plusDays(from), today.plusDays(to), limit);
+        assertThat(result.getTotal()).as("%s %d~%d", areas, from, to).isEqualTo(expected.size());
+        assertThat(result.getIds()).isEqualTo(expected.subList(0, Math.min(limit, expected.size())));
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.pet.availability;
+
+import com.example.pet.core.error.exception.Exception409;
+import com.example.pet.petsitter.PetSitter;
+import com.example.pet.petsitter.PetSitterRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// ** 달력이 없던 펫시터의 첫 수정이 동시에 들어와 다른 요청이 먼저 행을 만들면 500 이 아니라 409
+class AvailabilityServiceTests {
+    private final SitterAvailabilityRepository availabilityRepository = mock(SitterAvailabilityRepository.class);
+    private final PetSitterRepository petSitterRepository = mock(PetSitterRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+    private final AvailabilityService availabilityService = new AvailabilityService(availabilityRepository,
+            petSitterRepository, mock(AvailabilityIndex.class), eventPublisher);
+
+    @Test
+    void concurrentFirstUpdate() {
+        when(petSitterRepository.findById(1L)).thenReturn(Optional.of(PetSitter.builder().id(1L).area("서울").build()));
+        when(availabilityRepository.findById(1L)).thenReturn(Optional.empty());
+        when(availabilityRepository.saveAndFlush(any(SitterAvailability.class)))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry '1' for key 'PRIMARY'"));
+
+        AvailabilityRequest.RangeDTO range = new AvailabilityRequest.RangeDTO();
+        range.setStartDate(LocalDate.now());
+        range.setEndDate(LocalDate.now().plusDays(3));
+        AvailabilityRequest.UpdateDTO request = new AvailabilityRequest.UpdateDTO();
+        request.setRanges(Collections.singletonList(range));
+
+        assertThatThrownBy(() -> availabilityService.update(1L, request)).isInstanceOf(Exception409.class);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+}
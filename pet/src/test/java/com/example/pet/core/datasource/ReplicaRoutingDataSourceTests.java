@@ -0,0 +1,136 @@
+package com.example.pet.core.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ** 메모리 H2 두세 개로 primary / 레플리카 라우팅 확인
+class ReplicaRoutingDataSourceTests {
+    private static final DataSource PRIMARY = database("primary");
+    private static final DataSource REPLICA_1 = database("replica-1");
+    private static final DataSource REPLICA_2 = database("replica-2");
+
+    // ** 연결이 항상 거부되는 레플리카
+    private static final DataSource DOWN = new DriverManagerDataSource("jdbc:h2:tcp://localhost:1/~/down", "sa", "");
+
+    @BeforeAll
+    static void setUpDatabases() {
+        for (DataSource dataSource : Arrays.asList(PRIMARY, REPLICA_1, REPLICA_2)) {
+            JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+            jdbc.execute("create table if not exists node (name varchar(20))");
+            jdbc.execute("delete from node");
+        }
+        new JdbcTemplate(PRIMARY).update("insert into node values ('primary')");
+        new JdbcTemplate(REPLICA_1).update("insert into node values ('replica-1')");
+        new JdbcTemplate(REPLICA_2).update("insert into node values ('replica-2')");
+    }
+
+    @AfterEach
+    void clearUser() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplica() {
+        Routing routing = new Routing(ReplicaRoutingDataSource.Strategy.ROUND_ROBIN, REPLICA_1);
+
+        assertThat(routing.read()).isEqualTo("replica-1");
+        assertThat(routing.write()).isEqualTo("primary");
+        assertThat(routing.withoutTransaction()).isEqualTo("primary");
+    }
+
+    @Test
+    void roundRobinAlternatesReplicas() {
+        Routing routing = new Routing(ReplicaRoutingDataSource.Strategy.ROUND_ROBIN, REPLICA_1, REPLICA_2);
+
+        Set<String> nodes = new HashSet<>();
+        for (int i = 0; i < 4; i++) {
+            nodes.add(routing.read());
+        }
+        assertThat(nodes).containsExactlyInAnyOrder("replica-1", "replica-2");
+    }
+
+    @Test
+    void readYourWritesKeepsWriterOnPrimary() {
+        Routing routing = new Routing(ReplicaRoutingDataSource.Strategy.LEAST_CONNECTIONS, REPLICA_1);
+
+        login("writer@example.com");
+        routing.write();
+        assertThat(routing.read()).isEqualTo("primary");
+
+        // ** 다른 사용자는 영향 없음
+        login("reader@example.com");
+        assertThat(routing.read()).isEqualTo("replica-1");
+    }
+
+    @Test
+    void downReplicaFallsBack() {
+        Routing partial = new Routing(ReplicaRoutingDataSource.Strategy.ROUND_ROBIN, DOWN, REPLICA_1);
+        for (int i = 0; i < 4; i++) {
+            assertThat(partial.read()).isEqualTo("replica-1");
+        }
+
+        Routing allDown = new Routing(ReplicaRoutingDataSource.Strategy.ROUND_ROBIN, DOWN);
+        assertThat(allDown.read()).isEqualTo("primary");
+    }
+
+    private static void login(String email) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new TestingAuthenticationToken(email, null, "ROLE_USER"));
+    }
+
+    private static DataSource database(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    private static final class Routing {
+        private final JdbcTemplate jdbc;
+        private final TransactionTemplate readOnly;
+        private final TransactionTemplate readWrite;
+
+        private Routing(ReplicaRoutingDataSource.Strategy strategy, DataSource... replicas) {
+            ReplicaRoutingDataSource router = new ReplicaRoutingDataSource(
+                    PRIMARY, Arrays.asList(replicas), strategy, 60_000,
+                    new ReadYourWritesWindow(Duration.ofMinutes(1))
+            );
+            DataSource dataSource = new LazyConnectionDataSourceProxy(router);
+            DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+            this.jdbc = new JdbcTemplate(dataSource);
+            this.readOnly = new TransactionTemplate(transactionManager);
+            this.readOnly.setReadOnly(true);
+            this.readWrite = new TransactionTemplate(transactionManager);
+        }
+
+        private String read() {
+            return readOnly.execute(status -> currentNode());
+        }
+
+        private String write() {
+            return readWrite.execute(status -> currentNode());
+        }
+
+        private String withoutTransaction() {
+            return currentNode();
+        }
+
+        private String currentNode() {
+            return jdbc.queryForObject("select name from node", String.class);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.pet.core.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import javax.servlet.http.Cookie;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ** 쿠키 토큰은 GET/HEAD 화면 요청에서만 사용하고, API 요청은 Authorization 헤더만 인정
+class JwtTokenResolveTests {
+
+    @Test
+    void cookieOnlyForPageRequests() {
+        assertThat(JwtTokenProvider.resolveToken(request("GET", "/", MediaType.TEXT_HTML_VALUE))).isEqualTo("token");
+        assertThat(JwtTokenProvider.resolveToken(request("HEAD", "/petsitter", MediaType.TEXT_HTML_VALUE))).isEqualTo("token");
+
+        // ** 같은 주소의 JSON 목록, 쓰기 요청, 그 외 API 는 쿠키로 인증하지 않음
+        assertThat(JwtTokenProvider.resolveToken(request("GET", "/petsitter", MediaType.APPLICATION_JSON_VALUE))).isNull();
+        assertThat(JwtTokenProvider.resolveToken(request("POST", "/petsitter", MediaType.TEXT_HTML_VALUE))).isNull();
+        assertThat(JwtTokenProvider.resolveToken(request("PUT", "/petsitter/1/availability", null))).isNull();
+        assertThat(JwtTokenProvider.resolveToken(request("GET", "/petsitter/facets", MediaType.TEXT_HTML_VALUE))).isNull();
+    }
+
+    @Test
+    void headerForAnyRequest() {
+        MockHttpServletRequest request = request("POST", "/petsitter", null);
+        request.addHeader(JwtTokenProvider.HEADER, JwtTokenProvider.TOKEN_PREFIX + "header");
+        assertThat(JwtTokenProvider.resolveToken(request)).isEqualTo("header");
+    }
+
+    private static MockHttpServletRequest request(String method, String path, String accept) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        if (accept != null) {
+            request.addHeader("Accept", accept);
+        }
+        request.setCookies(new Cookie(JwtTokenProvider.COOKIE, "token"));
+        return request;
+    }
+}
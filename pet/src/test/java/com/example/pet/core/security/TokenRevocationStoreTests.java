@@ -0,0 +1,55 @@
+package com.example.pet.core.security;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.example.pet.core.error.exception.Exception503;
+import com.example.pet.user.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// ** 폐기 저장 실패 - 재시도 후에도 실패하면 503 (이 노드에는 반영), 일시적인 실패는 재시도로 저장
+class TokenRevocationStoreTests {
+    private final RevokedTokenRepository repository = mock(RevokedTokenRepository.class);
+    private final TokenRevocationStore store = new TokenRevocationStore(repository, 30000);
+
+    @Test
+    void failsWhenSaveKeepsFailing() {
+        DecodedJWT jwt = token();
+        when(repository.save(any(RevokedToken.class))).thenThrow(new DataAccessResourceFailureException("down"));
+
+        assertThatThrownBy(() -> store.revoke(jwt)).isInstanceOf(Exception503.class);
+        verify(repository, times(3)).save(any(RevokedToken.class));
+        assertThat(store.isRevoked(jwt)).isTrue();
+    }
+
+    @Test
+    void retriesTransientFailure() {
+        DecodedJWT jwt = token();
+        when(repository.save(any(RevokedToken.class)))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        store.revoke(jwt);
+        verify(repository, times(2)).save(any(RevokedToken.class));
+        assertThat(store.isRevoked(jwt)).isTrue();
+    }
+
+    private static DecodedJWT token() {
+        User user = User.builder()
+                .id(1L)
+                .email("revoke@example.com")
+                .username("revoke")
+                .roles(Collections.singletonList("ROLE_USER"))
+                .build();
+        return JwtTokenProvider.verify(JwtTokenProvider.create(user).replace(JwtTokenProvider.TOKEN_PREFIX, ""));
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.pet.core.security;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.example.pet.user.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// ** 로그아웃한 토큰은 만료 전이라도 인증되지 않고, 다른 노드(새 저장소)도 DB 에서 같은 폐기 목록을 읽음
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TokenRevocationTests {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Test
+    void logoutRevokesToken() throws Exception {
+        User user = User.builder()
+                .id(1L)
+                .email("revoke@example.com")
+                .username("revoke")
+                .roles(Collections.singletonList("ROLE_USER"))
+                .build();
+        String token = JwtTokenProvider.create(user);
+
+        mvc.perform(get("/petsitter/facets").header(JwtTokenProvider.HEADER, token))
+                .andExpect(status().isOk());
+
+        // ** GET 은 로그아웃으로 처리하지 않음
+        mvc.perform(get("/logout").header(JwtTokenProvider.HEADER, token))
+                .andExpect(status().isNotFound());
+        mvc.perform(get("/petsitter/facets").header(JwtTokenProvider.HEADER, token))
+                .andExpect(status().isOk());
+
+        mvc.perform(post("/logout").header(JwtTokenProvider.HEADER, token))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(header().string(HttpHeaders.SET_COOKIE, containsString("Max-Age=0")));
+
+        mvc.perform(get("/petsitter/facets").header(JwtTokenProvider.HEADER, token))
+                .andExpect(status().isUnauthorized());
+
+        DecodedJWT decoded = JwtTokenProvider.verify(token.replace(JwtTokenProvider.TOKEN_PREFIX, ""));
+        TokenRevocationStore otherNode = new TokenRevocationStore(revokedTokenRepository, 30000);
+        otherNode.init();
+        assertThat(otherNode.isRevoked(decoded)).isTrue();
+    }
+}
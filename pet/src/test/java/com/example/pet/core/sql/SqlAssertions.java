@@ -0,0 +1,53 @@
+package com.example.pet.core.sql;
+
+import java.util.Map;
+
+/**
+ * 테스트용 SQL 실행 횟수 검증
+ *
+ * <pre>
+ * SqlAssertions.assertMaxQueries(1, () -> mvc.perform(get("/")));
+ * </pre>
+ */
+public final class SqlAssertions {
+
+    @FunctionalInterface
+    public interface SqlAction {
+        void run() throws Exception;
+    }
+
+    private SqlAssertions() {
+    }
+
+    // ** 블록 안에서 실행된 SQL 통계
+    public static SqlStatistics capture(SqlAction action) throws Exception {
+        SqlStatistics statistics = SqlStatistics.begin();
+        try {
+            action.run();
+        } finally {
+            statistics.end();
+        }
+        return statistics;
+    }
+
+    // ** 블록 안에서 실행된 SQL 이 max 건 이하인지 검증
+    public static SqlStatistics assertMaxQueries(int max, SqlAction action) throws Exception {
+        SqlStatistics statistics = capture(action);
+        if (statistics.getCount() > max) {
+            throw new AssertionError(String.format("SQL 최대 %d건 예상, 실제 %d건 : %s",
+                    max, statistics.getCount(), statistics.getExecutions()));
+        }
+        return statistics;
+    }
+
+    // ** 같은 SQL 이 maxRepeats 번 넘게 실행되지 않는지 검증 (N+1)
+    public static SqlStatistics assertNoRepeatedQueries(int maxRepeats, SqlAction action) throws Exception {
+        SqlStatistics statistics = capture(action);
+        Map.Entry<String, Integer> repeated = statistics.mostRepeated();
+        if (repeated != null && repeated.getValue() > maxRepeats) {
+            throw new AssertionError(String.format("같은 SQL 최대 %d회 예상, 실제 %d회 : %s",
+                    maxRepeats, repeated.getValue(), repeated.getKey()));
+        }
+        return statistics;
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.pet.core.sql;
+
+import com.example.pet.core.security.JwtTokenProvider;
+import com.example.pet.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Collections;
+import java.util.UUID;
+
+import static com.example.pet.core.sql.SqlAssertions.assertMaxQueries;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// ** 엔드포인트별 SQL 실행 횟수 상한 (늘어나면 빌드 실패)
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SqlQueryCountTests {
+    private static final String PASSWORD = "password1!";
+
+    @Autowired
+    private MockMvc mvc;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder()
+                .id(1L)
+                .email("tester@example.com")
+                .username("tester")
+                .roles(Collections.singletonList("ROLE_USER"))
+                .build();
+        token = JwtTokenProvider.create(user);
+    }
+
+    // ** HomeService - 인증 정보만 사용하고 DB 는 조회하지 않음
+    @Test
+    void home() throws Exception {
+        assertMaxQueries(0, () -> mvc.perform(get("/")).andExpect(status().isOk()));
+        assertMaxQueries(0, () -> mvc.perform(get("/").header(JwtTokenProvider.HEADER, token))
+                .andExpect(status().isOk()));
+    }
+
+    // ** UserService - 블룸 필터에 없는 이메일은 DB 를 조회하지 않음
+    @Test
+    void checkEmail() throws Exception {
+        assertMaxQueries(0, () -> mvc.perform(post("/check")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(joinBody(uniqueEmail())))
+                .andExpect(status().isOk()));
+    }
+
+    // ** UserService - 가입은 시퀀스 + insert, 로그인은 사용자 조회 1건 (이후는 캐시)
+    @Test
+    void joinAndLogin() throws Exception {
+        String email = uniqueEmail();
+        assertMaxQueries(2, () -> mvc.perform(post("/join")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(joinBody(email)))
+                .andExpect(status().isOk()));
+
+        assertMaxQueries(1, () -> mvc.perform(post("/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(joinBody(email)))
+                .andExpect(status().isOk()));
+        assertMaxQueries(0, () -> mvc.perform(post("/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(joinBody(email)))
+                .andExpect(status().isOk()));
+    }
+
+    // ** PetSitterService - 목록은 버전 행 조회 + 요약 조회, 패싯/검색은 요약 조회 1건 이하
+    @Test
+    void petSitterReads() throws Exception {
+        assertMaxQueries(2, () -> mvc.perform(get("/petsitter")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(JwtTokenProvider.HEADER, token))
+                .andExpect(status().isOk()));
+        assertMaxQueries(1, () -> mvc.perform(get("/petsitter/facets")
+                        .header(JwtTokenProvider.HEADER, token))
+                .andExpect(status().isOk()));
+        assertMaxQueries(1, () -> mvc.perform(get("/petsitter/search")
+                        .param("q", "산책")
+                        .header(JwtTokenProvider.HEADER, token))
+                .andExpect(status().isOk()));
+    }
+
+    // ** 조건부 GET - ETag 가 같으면 버전 조회 1건만 하고 304
+    @Test
+    void petSitterConditionalGets() throws Exception {
+        String body = mvc.perform(post("/petsitter")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"산책\",\"description\":\"산책 대행\",\"area\":\"서울\",\"price\":10000}")
+                        .header(JwtTokenProvider.HEADER, token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String id = body.replaceAll("(?s).*\"id\":(\\d+).*", "$1");
+
+        String etag = mvc.perform(get("/petsitter/" + id)
+                        .header(JwtTokenProvider.HEADER, token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertMaxQueries(1, () -> mvc.perform(get("/petsitter/" + id)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag)
+                        .header(JwtTokenProvider.HEADER, token))
+                .andExpect(status().isNotModified()));
+
+        String listEtag = mvc.perform(get("/petsitter")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(JwtTokenProvider.HEADER, token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertMaxQueries(1, () -> mvc.perform(get("/petsitter")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_NONE_MATCH, listEtag)
+                        .header(JwtTokenProvider.HEADER, token))
+                .andExpect(status().isNotModified()));
+
+        // ** 등록하면 목록 버전이 바뀌어 같은 ETag 로는 200
+        mvc.perform(post("/petsitter")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"돌봄\",\"description\":\"방문 돌봄\",\"area\":\"부산\",\"price\":20000}")
+                        .header(JwtTokenProvider.HEADER, token))
+                .andExpect(status().isOk());
+        mvc.perform(get("/petsitter")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_NONE_MATCH, listEtag)
+                        .header(JwtTokenProvider.HEADER, token))
+                .andExpect(status().isOk());
+    }
+
+    private static String uniqueEmail() {
+        return "user-" + UUID.randomUUID().toString().substring(0, 8) + "@example.com";
+    }
+
+    private static String joinBody(String email) {
+        return "{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\",\"username\":\"tester\"}";
+    }
+}
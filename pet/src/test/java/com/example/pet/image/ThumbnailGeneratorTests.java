@@ -0,0 +1,62 @@
+package com.example.pet.image;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ** 헤더 크기로 먼저 거르고, 큰 원본은 썸네일 크기 근처까지 건너뛰며 디코딩
+class ThumbnailGeneratorTests {
+    private final ThumbnailGenerator generator = new ThumbnailGenerator(null, 100, 4_000_000, 1, 1);
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    void tearDown() {
+        generator.shutdown();
+    }
+
+    @Test
+    void subsamplesLargeImage() throws IOException {
+        BufferedImage source = generator.read("large", write("large.png", 2000, 1000));
+
+        // ** 2000 / (100 * 2) = 10 픽셀 간격
+        assertThat(source.getWidth()).isEqualTo(200);
+        assertThat(source.getHeight()).isEqualTo(100);
+    }
+
+    @Test
+    void keepsSmallImage() throws IOException {
+        BufferedImage source = generator.read("small", write("small.png", 150, 80));
+
+        assertThat(source.getWidth()).isEqualTo(150);
+        assertThat(source.getHeight()).isEqualTo(80);
+    }
+
+    @Test
+    void rejectsTooManyPixels() throws IOException {
+        assertThat(generator.read("huge", write("huge.png", 2001, 2000))).isNull();
+    }
+
+    @Test
+    void rejectsUnknownFormat() throws IOException {
+        Path file = directory.resolve("text.png");
+        Files.write(file, "not an image".getBytes());
+
+        assertThat(generator.read("text", file)).isNull();
+    }
+
+    private Path write(String name, int width, int height) throws IOException {
+        Path file = directory.resolve(name);
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_BYTE_BINARY), "png", file.toFile());
+        return file;
+    }
+}
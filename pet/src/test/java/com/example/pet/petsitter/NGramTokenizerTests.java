@@ -0,0 +1,33 @@
+package com.example.pet.petsitter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NGramTokenizerTests {
+
+    @Test
+    void bigramsAndTrigramsPerWord() {
+        Map<String, Integer> terms = NGramTokenizer.tokenize("대형견 산책");
+        assertThat(terms).containsOnlyKeys("대형", "형견", "대형견", "산책");
+    }
+
+    @Test
+    void lowercaseAndCountRepeats() {
+        Map<String, Integer> terms = NGramTokenizer.tokenize("ABab");
+        assertThat(terms.get("ab")).isEqualTo(2);
+        assertThat(terms.get("ba")).isEqualTo(1);
+        assertThat(terms.get("aba")).isEqualTo(1);
+        assertThat(terms.get("bab")).isEqualTo(1);
+    }
+
+    @Test
+    void punctuationSplitsAndSingleLetters() {
+        Map<String, Integer> terms = NGramTokenizer.tokenize("개, 고양이!");
+        assertThat(terms).containsOnlyKeys("개", "고양", "양이", "고양이");
+        assertThat(NGramTokenizer.tokenize(null)).isEmpty();
+        assertThat(NGramTokenizer.tokenize(" ,.! ")).isEmpty();
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.pet.petsitter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// ** 보정 중에 도착한 이벤트 - 조회에 포함되지 않은 것만 다시 반영, 포함된 것은 두 번 더하지 않음
+class PetSitterAreaStatsTests {
+    private final PetSitterRepository petSitterRepository = mock(PetSitterRepository.class);
+    private final PetSitterListingVersionRepository listingVersionRepository = mock(PetSitterListingVersionRepository.class);
+
+    private final PetSitterAreaStats stats = new PetSitterAreaStats(petSitterRepository, listingVersionRepository,
+            mock(PlatformTransactionManager.class), 10000, 20);
+
+    @Test
+    void replaysEventsNotInSnapshot() {
+        snapshot(5, row("서울", 10000, 2));
+        stats.reconcile();
+        assertThat(counts()).containsEntry("서울", 2L).hasSize(1);
+
+        // ** 버전 6 은 조회에 포함되어 있고, 7 은 조회 이후 커밋되어 포함되지 않음
+        PetSitterChangedEvent includedEvent = event(6, "부산", 20000);
+        PetSitterChangedEvent laterEvent = event(7, "부산", 30000);
+        when(listingVersionRepository.findVersion()).thenReturn(Optional.of(new PetSitterVersion(6L, null)));
+        when(petSitterRepository.countByAreaAndPrice()).thenAnswer(invocation -> {
+            stats.onChanged(includedEvent);
+            stats.onChanged(laterEvent);
+            return rows(row("서울", 10000, 2), row("부산", 20000, 1));
+        });
+        stats.reconcile();
+        assertThat(counts()).containsEntry("서울", 2L).containsEntry("부산", 2L);
+
+        // ** 교체 후에 늦게 도착한 이벤트도 스냅샷 버전 이하면 건너뜀
+        stats.onChanged(event(6, "대구", 5000));
+        assertThat(counts()).doesNotContainKey("대구");
+
+        stats.onChanged(event(8, "대구", 5000));
+        assertThat(counts()).containsEntry("대구", 1L);
+    }
+
+    @Test
+    void swapsEvenWhenEventsArriveDuringReconcile() {
+        snapshot(1, row("서울", 10000, 1));
+        stats.reconcile();
+
+        // ** 이벤트 유실로 어긋난 값은 보정 중에 변경이 있어도 교체됨
+        stats.onChanged(event(0, "유실", 1000));
+        when(listingVersionRepository.findVersion()).thenReturn(Optional.of(new PetSitterVersion(1L, null)));
+        when(petSitterRepository.countByAreaAndPrice()).thenAnswer(invocation -> {
+            stats.onChanged(event(2, "서울", 10000));
+            return rows(row("서울", 10000, 1));
+        });
+        stats.reconcile();
+        assertThat(counts()).containsEntry("서울", 2L).doesNotContainKey("유실");
+    }
+
+    private void snapshot(long version, Object[]... rows) {
+        when(listingVersionRepository.findVersion()).thenReturn(Optional.of(new PetSitterVersion(version, null)));
+        when(petSitterRepository.countByAreaAndPrice()).thenReturn(rows(rows));
+    }
+
+    private TreeMap<String, Long> counts() {
+        TreeMap<String, Long> counts = new TreeMap<>();
+        stats.stats().getAreas().forEach(area -> counts.put(area.getArea(), area.getCount()));
+        return counts;
+    }
+
+    private static PetSitterChangedEvent event(long listingVersion, String area, int price) {
+        PetSitterChangedEvent event = PetSitterChangedEvent.saved(PetSitter.builder()
+                .title("산책")
+                .area(area)
+                .price(price)
+                .build());
+        event.setListingVersion(listingVersion);
+        return event;
+    }
+
+    private static Object[] row(String area, int price, long count) {
+        return new Object[]{area, price, count};
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(Arrays.asList(rows));
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.pet.petsitter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ** 변경분 반영 / 본 배열 합치기를 거쳐도 검색 결과가 전체 스캔과 같은지 확인
+class PetSitterFacetIndexTests {
+    private static final String[] AREAS = {"서울", "부산", " 대구 ", null, "인천"};
+
+    @Test
+    void matchesFullScan() {
+        Random random = new Random(42);
+        PetSitterFacetIndex index = new PetSitterFacetIndex(null);
+        Map<Long, Object[]> rows = new HashMap<>();
+
+        // ** MERGE_THRESHOLD 를 여러 번 넘도록 변경
+        for (int op = 0; op < PetSitterFacetIndex.MERGE_THRESHOLD * 4; op++) {
+            long id = 1 + random.nextInt(1500);
+            if (random.nextInt(5) == 0) {
+                index.remove(id);
+                rows.remove(id);
+            } else {
+                String area = AREAS[random.nextInt(AREAS.length)];
+                int price = random.nextInt(100);
+                index.upsert(id, area, price);
+                rows.put(id, new Object[]{area == null ? "" : area.trim(), price});
+            }
+
+            if (op % 101 == 0) {
+                int min = random.nextInt(100);
+                int max = min + random.nextInt(50);
+                List<String> areas = random.nextBoolean()
+                        ? Collections.emptyList()
+                        : Arrays.asList("서울", "대구");
+                assertSearch(index, rows, areas, min, max, 1 + random.nextInt(30));
+            }
+        }
+    }
+
+    @Test
+    void rangeCountAcrossWords() {
+        long[] words = {-1L, -1L, -1L};
+        assertThat(PetSitterFacetIndex.rangeCount(words, 0, 192)).isEqualTo(192);
+        assertThat(PetSitterFacetIndex.rangeCount(words, 63, 65)).isEqualTo(2);
+        assertThat(PetSitterFacetIndex.rangeCount(words, 64, 128)).isEqualTo(64);
+        assertThat(PetSitterFacetIndex.rangeCount(words, 10, 10)).isZero();
+        assertThat(PetSitterFacetIndex.nextSetBit(new long[]{0L, 1L << 5}, 3)).isEqualTo(69);
+        assertThat(PetSitterFacetIndex.nextSetBit(new long[]{0L, 1L << 5}, 70)).isEqualTo(-1);
+    }
+
+    private static void assertSearch(PetSitterFacetIndex index, Map<Long, Object[]> rows,
+                                     List<String> areas, int min, int max, int limit) {
+        Set<String> selected = new HashSet<>(areas);
+        List<long[]> expected = new ArrayList<>();
+        Map<String, Integer> counts = new TreeMap<>();
+        rows.forEach((id, row) -> {
+            String area = (String) row[0];
+            int price = (Integer) row[1];
+            if (price < min || price > max) {
+                return;
+            }
+            counts.merge(area, 1, Integer::sum);
+            if (selected.isEmpty() || selected.contains(area)) {
+                expected.add(new long[]{price, id});
+            }
+        });
+        expected.sort((a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(a[1], b[1]));
+
+        PetSitterResponse.FacetDTO result = index.search(areas, min, max, limit);
+        assertThat(result.getTotal()).isEqualTo(expected.size());
+        assertThat(new TreeMap<>(result.getAreaCounts())).isEqualTo(counts);
+        assertThat(result.getHits()).hasSize(Math.min(limit, expected.size()));
+        for (int i = 0; i < result.getHits().size(); i++) {
+            assertThat(result.getHits().get(i).getId()).isEqualTo(expected.get(i)[1]);
+        }
+    }
+}
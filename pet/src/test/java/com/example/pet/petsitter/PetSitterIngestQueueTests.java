@@ -0,0 +1,208 @@
+package com.example.pet.petsitter;
+
+import com.example.pet.core.error.GeneralExceptionHandler;
+import com.example.pet.core.error.exception.Exception404;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import javax.validation.Validation;
+import javax.validation.Validator;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// ** 지연 저장 대기열 - 재시작 시 checkpoint 이후 재처리 / 잘린 마지막 줄 제거, 대기열이 가득 차면 503
+class PetSitterIngestQueueTests {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    // ** blockFrom 번째 저장 호출부터 release 를 풀어 주기 전까지 writer 가 멈춰 있음 (blocked 로 알림)
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch blocked = new CountDownLatch(1);
+    private final AtomicInteger calls = new AtomicInteger();
+    private int blockFrom = 1;
+    private final List<String> savedTitles = new CopyOnWriteArrayList<>();
+    private final AtomicLong ids = new AtomicLong();
+
+    private PetSitterIngestQueue queue;
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        release.countDown();
+        if (queue != null) {
+            queue.close();
+        }
+    }
+
+    @Test
+    void replaysEntriesAfterCheckpoint() throws Exception {
+        byte[] first = line("first", "첫 번째");
+        byte[] second = line("second", "두 번째");
+        byte[] third = line("third", "세 번째");
+        byte[] partial = "{\"trackingId\":\"partial\",\"petSi".getBytes(StandardCharsets.UTF_8);
+
+        Path journal = directory.resolve("journal.ndjson");
+        Files.write(journal, concat(first, second, third, partial));
+        Files.write(directory.resolve("checkpoint"), Long.toString(first.length).getBytes(StandardCharsets.US_ASCII));
+
+        queue = newQueue(100);
+        queue.init();
+
+        // ** 저장된 첫 줄은 다시 넣지 않고, 기록 중 끊긴 마지막 줄은 잘라냄
+        assertThat(queue.pending()).isEqualTo(2);
+        assertThat(Files.size(journal)).isEqualTo(first.length + second.length + third.length);
+        assertThat(queue.status("second").getStatus()).isEqualTo(PetSitterResponse.IngestStatusDTO.QUEUED);
+        assertThatThrownBy(() -> queue.status("first")).isInstanceOf(Exception404.class);
+        assertThatThrownBy(() -> queue.status("partial")).isInstanceOf(Exception404.class);
+
+        release.countDown();
+        awaitSaved("second");
+        awaitSaved("third");
+        assertThat(savedTitles).containsExactly("두 번째", "세 번째");
+    }
+
+    @Test
+    void rejectsWhenFull() throws Exception {
+        queue = newQueue(1);
+        queue.init();
+        MockMvc mvc = MockMvcBuilders.standaloneSetup(new PetSitterController(null, null, Optional.of(queue)))
+                .setControllerAdvice(new GeneralExceptionHandler())
+                .build();
+
+        String body = "{\"title\":\"산책\",\"description\":\"산책 대행\",\"area\":\"서울\",\"price\":10000}";
+        mvc.perform(post("/petsitter").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists(HttpHeaders.LOCATION));
+
+        // ** 첫 건이 저장되기 전이라 처리되지 않은 건수가 capacity 에 도달
+        mvc.perform(post("/petsitter").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"));
+    }
+
+    // ** 계속 저장 중이어도 (처리되지 않은 건이 있어도) 저장 끝난 앞부분을 잘라내고,
+    // 잘라낸 뒤 추가된 기록의 checkpoint 도 새 파일 기준으로 기록
+    @Test
+    void compactsWhileRecordsArePending() throws Exception {
+        blockFrom = 2;
+        queue = newQueue(100, 1);
+        queue.init();
+        Path journal = directory.resolve("journal.ndjson");
+
+        String first = queue.accept(dto("첫 번째")).getTrackingId();
+        awaitSaved(first);
+
+        // ** 두 번째 저장에서 writer 가 멈춘 동안 - 첫 줄은 잘려 있고 두 번째 줄만 남음
+        String second = queue.accept(dto("두 번째")).getTrackingId();
+        assertThat(blocked.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(queue.pending()).isEqualTo(1);
+        assertThat(Files.size(journal)).isEqualTo(line(second, "두 번째").length);
+        assertThat(checkpoint()).isZero();
+
+        String third = queue.accept(dto("세 번째")).getTrackingId();
+        release.countDown();
+        awaitSaved(second);
+        awaitSaved(third);
+        assertThat(savedTitles).containsExactly("첫 번째", "두 번째", "세 번째");
+
+        // ** 재시작해도 다시 처리할 기록이 없음
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (queue.pending() > 0 || checkpoint() != Files.size(journal)) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+        queue.close();
+        queue = newQueue(100, 1);
+        queue.init();
+        assertThat(queue.pending()).isZero();
+    }
+
+    private PetSitterIngestQueue newQueue(int capacity) {
+        return newQueue(capacity, 64 * 1024 * 1024);
+    }
+
+    private PetSitterIngestQueue newQueue(int capacity, long compactBytes) {
+        PetSitterBulkService bulkService = mock(PetSitterBulkService.class);
+        when(bulkService.saveIngested(anyList(), anyList())).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() >= blockFrom) {
+                blocked.countDown();
+                release.await();
+            }
+            List<PetSitterResponse.FindAllDTO> dtos = invocation.getArgument(1);
+            List<Long> saved = new ArrayList<>();
+            for (PetSitterResponse.FindAllDTO dto : dtos) {
+                saved.add(ids.incrementAndGet());
+                savedTitles.add(dto.getTitle());
+            }
+            return saved;
+        });
+        return new PetSitterIngestQueue(bulkService, objectMapper, validator, directory.toString(),
+                capacity, 10, 10, 10, 2, compactBytes, 3600, 1000);
+    }
+
+    private void awaitSaved(String trackingId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!PetSitterResponse.IngestStatusDTO.SAVED.equals(queue.status(trackingId).getStatus())) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private long checkpoint() throws Exception {
+        return Long.parseLong(new String(Files.readAllBytes(directory.resolve("checkpoint")), StandardCharsets.US_ASCII));
+    }
+
+    private byte[] line(String trackingId, String title) throws Exception {
+        String json = objectMapper.writeValueAsString(new PetSitterIngestQueue.Record(trackingId, dto(title)));
+        return (json + "\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static PetSitterResponse.FindAllDTO dto(String title) {
+        PetSitterResponse.FindAllDTO dto = new PetSitterResponse.FindAllDTO();
+        dto.setTitle(title);
+        dto.setDescription("설명");
+        dto.setArea("서울");
+        dto.setPrice(10000);
+        return dto;
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        int length = 0;
+        for (byte[] part : parts) {
+            length += part.length;
+        }
+        byte[] all = new byte[length];
+        int offset = 0;
+        for (byte[] part : parts) {
+            System.arraycopy(part, 0, all, offset, part.length);
+            offset += part.length;
+        }
+        return all;
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.pet.petsitter;
+
+import com.example.pet.core.security.JwtTokenProvider;
+import com.example.pet.user.User;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// ** 지연 저장 모드 - 등록은 202 + 추적 id 로 바로 응답하고, writer 가 저장하면 상태가 SAVED 로 바뀜
+@SpringBootTest(properties = {
+        "petsitter.ingest.enabled=true",
+        "petsitter.ingest.path=" + PetSitterIngestTests.PATH
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PetSitterIngestTests {
+    static final String PATH = "build/test-ingest";
+
+    // ** 이전 실행에서 남은 기록이 컨텍스트 시작 시 재처리되지 않도록 비움
+    @BeforeAll
+    static void clean() throws IOException {
+        FileSystemUtils.deleteRecursively(Paths.get(PATH));
+    }
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PetSitterBulkService bulkService;
+
+    @Autowired
+    private PetSitterRepository petSitterRepository;
+
+    @Test
+    void acceptedThenSaved() throws Exception {
+        User user = User.builder()
+                .id(1L)
+                .email("ingest@example.com")
+                .username("ingest")
+                .roles(Collections.singletonList("ROLE_USER"))
+                .build();
+        String token = JwtTokenProvider.create(user);
+
+        String body = "{\"title\":\"지연 저장\",\"description\":\"설명\",\"area\":\"서울\",\"price\":10000}";
+        MvcResult accepted = mvc.perform(post("/petsitter")
+                        .header(JwtTokenProvider.HEADER, token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andReturn();
+
+        String location = accepted.getResponse().getHeader("Location");
+        JsonNode status = response(accepted);
+        assertThat(status.get("status").asText()).isEqualTo(PetSitterResponse.IngestStatusDTO.QUEUED);
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!PetSitterResponse.IngestStatusDTO.SAVED.equals(status.get("status").asText())
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            status = response(mvc.perform(get(location).header(JwtTokenProvider.HEADER, token))
+                    .andExpect(status().isOk())
+                    .andReturn());
+        }
+        assertThat(status.get("status").asText()).isEqualTo(PetSitterResponse.IngestStatusDTO.SAVED);
+        assertThat(status.get("petSitterId").asLong()).isPositive();
+
+        // ** 검증 실패는 기록하지 않고 바로 400
+        mvc.perform(post("/petsitter")
+                        .header(JwtTokenProvider.HEADER, token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"description\":\"제목 없음\",\"price\":1}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    // ** checkpoint 기록 전에 종료되어 같은 기록이 다시 처리되어도 추적 id 로 걸러 한 번만 저장
+    @Test
+    void replayedTrackingIdSavedOnce() {
+        PetSitterResponse.FindAllDTO dto = new PetSitterResponse.FindAllDTO();
+        dto.setTitle("재처리");
+        dto.setDescription("설명");
+        dto.setArea("서울");
+        dto.setPrice(10000);
+
+        List<Long> first = bulkService.saveIngested(Arrays.asList("replay-1", "replay-2"), Arrays.asList(dto, dto));
+        long count = petSitterRepository.count();
+
+        List<Long> replayed = bulkService.saveIngested(Arrays.asList("replay-2", "replay-3"), Arrays.asList(dto, dto));
+        assertThat(replayed.get(0)).isEqualTo(first.get(1));
+        assertThat(replayed.get(1)).isNotIn(first);
+        assertThat(petSitterRepository.count()).isEqualTo(count + 1);
+    }
+
+    private JsonNode response(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsByteArray()).get("response");
+    }
+}
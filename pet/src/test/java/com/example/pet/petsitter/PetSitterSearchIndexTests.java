@@ -0,0 +1,94 @@
+package com.example.pet.petsitter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PetSitterSearchIndexTests {
+    private static final String[] WORDS = {"강아지", "고양이", "산책", "목욕", "훈련", "돌봄", "방문", "주말", "대형견", "소형견"};
+
+    @Test
+    void postingListRoundTrip() {
+        int[] docs = {0, 1, 127, 128, 16_384, 2_100_000, 300_000_000};
+        int[] tfs = {1, 127, 128, 300, 1, 65_535, 2};
+        PetSitterSearchIndex.PostingList list = new PetSitterSearchIndex.PostingList();
+        for (int i = 0; i < docs.length; i++) {
+            list.append(docs[i], tfs[i]);
+        }
+
+        List<int[]> read = new ArrayList<>();
+        list.forEach((doc, tf) -> read.add(new int[]{doc, tf}));
+        assertThat(read).hasSize(docs.length);
+        for (int i = 0; i < docs.length; i++) {
+            assertThat(read.get(i)).containsExactly(docs[i], tfs[i]);
+        }
+    }
+
+    // ** 제목 가중치, 짧은 문서 우선, 관련 없는 문서 제외
+    @Test
+    void bm25Ranking() {
+        PetSitterSearchIndex index = new PetSitterSearchIndex(null);
+        save(index, 1L, "고양이 돌봄", "강아지도 가능합니다. 방문 돌봄, 목욕, 훈련, 주말 예약 가능");
+        save(index, 2L, "강아지 산책", "매일 산책");
+        save(index, 3L, "목욕", "훈련");
+        save(index, 4L, "방문 돌봄", "강아지 고양이 목욕 훈련 주말 산책 대형견 소형견 모두 가능합니다");
+
+        assertThat(index.search("강아지", 10)).containsExactly(2L, 1L, 4L);
+        assertThat(index.search("강아지", 1)).containsExactly(2L);
+        assertThat(index.search("없는단어", 10)).isEmpty();
+    }
+
+    // ** 다시 저장/삭제된 문서는 결과에 나오지 않고, 삭제 표시가 쌓이면 정리됨
+    @Test
+    void updatesAndCompaction() {
+        PetSitterSearchIndex index = new PetSitterSearchIndex(null);
+        save(index, 1L, "강아지 산책", "산책");
+        save(index, 2L, "고양이", "돌봄");
+        for (int i = 0; i < 3000; i++) {
+            save(index, 2L, i % 2 == 0 ? "고양이" : "강아지", "돌봄");
+        }
+        index.onChanged(PetSitterChangedEvent.deleted(petSitter(1L, "강아지 산책", "산책")));
+
+        assertThat(index.search("강아지", 10)).containsExactly(2L);
+        assertThat(index.search("산책", 10)).isEmpty();
+        assertThat(index.documentCount()).isLessThan(3000);
+    }
+
+    // ** 상위 limit 개 조기 종료를 해도 전체 순위의 앞부분과 같음
+    @Test
+    void pruningKeepsExactTopK() {
+        Random random = new Random(7);
+        PetSitterSearchIndex index = new PetSitterSearchIndex(null);
+        for (long id = 1; id <= 2000; id++) {
+            save(index, id, words(random, 2), words(random, 1 + random.nextInt(12)));
+        }
+
+        for (int q = 0; q < 50; q++) {
+            String query = words(random, 2);
+            List<Long> all = index.search(query, 10_000);
+            for (int limit : new int[]{1, 5, 20}) {
+                assertThat(index.search(query, limit)).isEqualTo(all.subList(0, Math.min(limit, all.size())));
+            }
+        }
+    }
+
+    private static void save(PetSitterSearchIndex index, Long id, String title, String description) {
+        index.onChanged(PetSitterChangedEvent.saved(petSitter(id, title, description)));
+    }
+
+    private static PetSitter petSitter(Long id, String title, String description) {
+        return PetSitter.builder().id(id).title(title).description(description).area("서울").price(10000).build();
+    }
+
+    private static String words(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            text.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return text.toString();
+    }
+}
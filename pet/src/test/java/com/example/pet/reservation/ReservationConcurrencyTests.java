@@ -0,0 +1,155 @@
+package com.example.pet.reservation;
+
+import com.example.pet.core.error.exception.Exception409;
+import com.example.pet.petsitter.PetSitter;
+import com.example.pet.petsitter.PetSitterRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ** 한 펫시터에 수백 스레드가 동시에 예약 - 겹치는 예약이 없어야 함
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+class ReservationConcurrencyTests {
+    private static final int THREADS = 200;
+    private static final int REQUESTS = 1000;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReservationSlotRepository slotRepository;
+
+    @Autowired
+    private PetSitterRepository petSitterRepository;
+
+    @Test
+    void sameDayIsBookedOnce() throws Exception {
+        Long petSitterId = newPetSitter();
+        LocalDate day = LocalDate.now().plusDays(1);
+
+        Result result = run(THREADS, () -> new ReservationRequest.CreateDTO(day, day), petSitterId);
+
+        assertThat(result.succeeded).isEqualTo(1);
+        assertThat(result.conflicts).isEqualTo(THREADS - 1);
+        assertThat(slotRepository.findBookedDates(petSitterId, day, day)).containsExactly(day);
+    }
+
+    @Test
+    void overlappingRangesNeverDoubleBook() throws Exception {
+        Long petSitterId = newPetSitter();
+        LocalDate first = LocalDate.now().plusDays(1);
+
+        Result result = run(REQUESTS, () -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            LocalDate start = first.plusDays(random.nextInt(60));
+            return new ReservationRequest.CreateDTO(start, start.plusDays(random.nextInt(4)));
+        }, petSitterId);
+
+        assertThat(result.succeeded + result.conflicts).isEqualTo(REQUESTS);
+        assertThat(result.succeeded).isPositive();
+
+        // ** 성공한 예약끼리 기간이 겹치지 않음
+        List<ReservationResponse.ReservationDTO> booked = new ArrayList<>(result.reservations);
+        booked.sort(Comparator.comparing(ReservationResponse.ReservationDTO::getStartDate));
+        for (int i = 1; i < booked.size(); i++) {
+            assertThat(booked.get(i).getStartDate()).isAfter(booked.get(i - 1).getEndDate());
+        }
+
+        // ** 슬롯 수 = 성공한 예약 일수 합, DB 의 예약 수 = 성공 응답 수
+        long days = booked.stream()
+                .mapToLong(r -> r.getEndDate().toEpochDay() - r.getStartDate().toEpochDay() + 1)
+                .sum();
+        List<LocalDate> slots = slotRepository.findBookedDates(petSitterId, first, first.plusDays(70));
+        assertThat(slots).hasSize((int) days).doesNotHaveDuplicates();
+        long saved = reservationRepository.findAll().stream()
+                .filter(r -> r.getPetSitterId().equals(petSitterId))
+                .count();
+        assertThat(saved).isEqualTo(result.succeeded);
+    }
+
+    private Result run(int requests, RequestFactory factory, Long petSitterId) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger conflicts = new AtomicInteger();
+        ConcurrentLinkedQueue<ReservationResponse.ReservationDTO> reservations = new ConcurrentLinkedQueue<>();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            long userId = i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    reservations.add(reservationService.reserve(petSitterId, userId, factory.create()));
+                } catch (Exception409 e) {
+                    conflicts.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        long elapsedNanos = System.nanoTime() - begin;
+        executor.shutdown();
+
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        log.info("예약 요청 {}건 / 스레드 {} : 성공 {}, 충돌 {}, {}ms, {} req/s",
+                requests, THREADS, reservations.size(), conflicts.get(),
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), String.format("%.0f", requests / seconds));
+
+        return new Result(reservations.stream().collect(Collectors.toList()), conflicts.get());
+    }
+
+    private Long newPetSitter() {
+        PetSitter petSitter = petSitterRepository.save(PetSitter.builder()
+                .title("예약 테스트")
+                .description("동시 예약 테스트용 펫시터")
+                .area("서울")
+                .price(30000)
+                .build());
+        return petSitter.getId();
+    }
+
+    @FunctionalInterface
+    private interface RequestFactory {
+        ReservationRequest.CreateDTO create();
+    }
+
+    private static final class Result {
+        private final List<ReservationResponse.ReservationDTO> reservations;
+        private final int succeeded;
+        private final int conflicts;
+
+        private Result(List<ReservationResponse.ReservationDTO> reservations, int conflicts) {
+            this.reservations = reservations;
+            this.succeeded = reservations.size();
+            this.conflicts = conflicts;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.pet.user;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.validation.BeanPropertyBindingResult;
+
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ** 한 번 훑는 검증이 기존 @Size / @Pattern 정규식과 같은 결과인지 (Hibernate Validator 와 같이 matches() 로 비교)
+class JoinValidatorTests {
+    private static final Pattern EMAIL = Pattern.compile("^[\\w._%+-]+@[\\w.-]+\\.[a-zA-Z]{2,6}$");
+    private static final Pattern PASSWORD = Pattern.compile(
+            "^(?=.*[a-zA-Z])(?=.*\\d)(?=.*[@#$%^&+=!~`<>,./?;:'\"\\[\\]{}\\\\()|_-])\\S*$");
+    private static final Pattern PHONE_NUMBER = Pattern.compile("^[0-9]{10,11}$");
+
+    private final JoinValidator validator = new JoinValidator();
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "user@example.com", "a@b.co", "first.last+tag@mail.example.co.kr", "a_b%c-d@sub-domain.example.org",
+            "user@example.museum", "user@example.museums", "user@example.c", "user@example.abcdef", "user@example.abcdefg",
+            "@example.com", "user@.com", "user@example.", "user@example", "user@@example.com", "user@exa mple.com",
+            "user@example.c0m", "user@example.com.", "user@example..com", "user@-.com", "user@a.b.c.d.ef",
+            "user@example.com\n", "user@example.com\u0085", "user@example.com\u2028", "user@example.com ", "us er@example.com",
+            "사용자@example.com", "user@예제.com", ".@a.bc", "a@..bc", "a@_.bc", "a@.-.bc"
+    })
+    void emailMatchesPattern(String value) {
+        assertThat(JoinValidator.isEmail(value)).as(escape(value)).isEqualTo(EMAIL.matcher(value).matches());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "password1!", "Password12#", "12345678!", "abcdefgh!", "abcdefgh1", "abc 123!", "abc\t123!",
+            "a1!", "a1!\u0085", "\u0085a1!", "a1!\u2028", "\u2028a1!", "a\u20281!", "a1\u2028!", "a1!\u2029x",
+            "a1!\n", "\na1!", "a1!\r", "a 1!", " a1!", "a1! ", "한글a1!", "a1\u00a0!", "a1\u3000!",
+            "a1_", "a1-", "a1\\", "a1\"", "a1*", "a1\u00e9"
+    })
+    void passwordMatchesPattern(String value) {
+        assertThat(JoinValidator.isPassword(value)).as(escape(value)).isEqualTo(PASSWORD.matcher(value).matches());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "0101234567", "01012345678", "010123456", "010123456789", "010-1234-5678", "0101234567a",
+            "01012345678\n", "\uff10\uff11\uff10\uff11\uff12\uff13\uff14\uff15\uff16\uff17\uff18", ""
+    })
+    void phoneNumberMatchesPattern(String value) {
+        assertThat(JoinValidator.isPhoneNumber(value)).as(escape(value)).isEqualTo(PHONE_NUMBER.matcher(value).matches());
+    }
+
+    // ** @Size(min = 8, max = 20) 경계 - 7 / 8 / 20 / 21자
+    @ParameterizedTest
+    @ValueSource(strings = {"abcd12!", "abcd123!", "abcdefghijklmnop123!", "abcdefghijklmnopq123!"})
+    void passwordSizeBounds(String value) {
+        UserRequest.JoinDTO dto = new UserRequest.JoinDTO();
+        dto.setEmail("user@example.com");
+        dto.setPassword(value);
+        BeanPropertyBindingResult errors = new BeanPropertyBindingResult(dto, "joinDTO");
+
+        validator.validate(dto, errors);
+
+        boolean expected = value.length() >= 8 && value.length() <= 20 && PASSWORD.matcher(value).matches();
+        assertThat(errors.hasFieldErrors("password")).as(value).isEqualTo(!expected);
+        if (!expected) {
+            assertThat(errors.getFieldError("password").getDefaultMessage())
+                    .isEqualTo(JoinValidator.PASSWORD_SIZE_MESSAGE);
+        }
+    }
+
+    private static String escape(String value) {
+        StringBuilder builder = new StringBuilder();
+        for (char c : value.toCharArray()) {
+            if (c < 0x20 || c > 0x7e) {
+                builder.append(String.format("\\u%04x", (int) c));
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.pet.user;
+
+import com.example.pet.core.error.exception.Exception400;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// ** 다른 노드에서 방금 가입한 이메일 - 블룸 필터를 통과해도 unique 제약 위반은 400
+class UserServiceTests {
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final EmailBloomFilter emailBloomFilter = mock(EmailBloomFilter.class);
+
+    private final UserService userService = new UserService(userRepository, mock(PasswordEncoder.class),
+            mock(AuthenticationManager.class), emailBloomFilter, mock(UserCache.class));
+
+    @Test
+    void duplicateEmailFromAnotherNode() {
+        when(emailBloomFilter.mightContain("dup@example.com")).thenReturn(false);
+        when(userRepository.saveAndFlush(any(User.class)))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry 'dup@example.com' for key 'UK_email'"));
+
+        UserRequest.JoinDTO requestDTO = new UserRequest.JoinDTO();
+        requestDTO.setEmail("dup@example.com");
+        requestDTO.setPassword("password1!");
+
+        assertThatThrownBy(() -> userService.join(requestDTO))
+                .isInstanceOf(Exception400.class)
+                .hasMessage("이미 존재하는 이메일 입니다. : dup@example.com");
+        verify(emailBloomFilter).put("dup@example.com");
+    }
+}